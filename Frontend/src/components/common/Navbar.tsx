@@ -5,6 +5,7 @@ import {
   NAVBAR_LOGOUT_LABEL,
   NAVBAR_ROLE_LABEL,
 } from "../../constants/components/navbarStrings";
+import userService from "../../services/userService";
 
 /**
  * Navbar Component
@@ -28,6 +29,10 @@ const Navbar: React.FC = () => {
 
   // Logout handler
   const handleLogout = useCallback(() => {
+    const token = localStorage.getItem("authToken") ?? sessionStorage.getItem("authToken");
+    if (token) {
+      userService.logout(token).catch((e) => console.error(e));
+    }
     sessionStorage.removeItem("authToken");
     sessionStorage.removeItem("userRole");
     sessionStorage.removeItem("user");
@@ -22,11 +22,13 @@ export const TEACHER_ATTENDANCE_STRINGS = {
     COL_DATE: "Date",
     COL_PRESENT: "Present Students",
     NO_RECORDS: "No attendance records available.",
+    INFO_ROLL_CALL_QUEUED: "Attendance submitted. The records will appear shortly.",
   
     // Errors
     ERROR_NO_USER_ID: "No teacher ID found. Please log in.",
     ERROR_FETCH_ASSIGNMENTS: "Failed to fetch course assignments.",
     ERROR_FETCH_STUDENTS: "Failed to fetch students for the selected course.",
     ERROR_MARK_ATTENDANCE: "Failed to record attendance. Please try again.",
+    ERROR_ATTENDANCE_BUSY: "Attendance is busy right now. Please submit again in a minute.",
     ERROR_FETCH_RECORDS: "Failed to fetch attendance records.",
   };
\ No newline at end of file
@@ -3,6 +3,8 @@ export const TEACHER_TIMETABLE_STRINGS = {
     // Page
     PAGE_HEADING: "My Timetable",
     BTN_REFRESH: "Refresh Timetable",
+    BTN_LOAD_MORE: "Load Next Week",
+    LABEL_SHOWING_UNTIL: "Showing classes until",
   
     // Metrics
     LABEL_TODAY_CLASSES: "Today's Classes",
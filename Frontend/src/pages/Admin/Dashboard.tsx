@@ -16,14 +16,9 @@ import CourseCard, {
 } from "../../components/common/CourseCard";
 
 // Service modules
-import teacherService, { Teacher } from "../../services/teacherService";
-import studentService from "../../services/studentService";
-import courseService, {
-  Course,
-  CourseAssign,
-} from "../../services/courseService";
-import timetableService from "../../services/timetableService";
-import attendanceService from "../../services/attendanceService";
+import { Teacher } from "../../services/teacherService";
+import { Course, CourseAssign } from "../../services/courseService";
+import dashboardService from "../../services/dashboardService";
 
 // String constants
 const STRINGS = {
@@ -81,49 +76,22 @@ const Dashboard: React.FC = () => {
     setError(null);
 
     try {
-      const [
-        studentCount,
-        teacherCount,
-        courseCount,
-        courseData,
-        assignData,
-        teacherData,
-        allEntries,
-        attendanceSummary,
-      ] = await Promise.all([
-        studentService.count(),
-        teacherService.count(),
-        courseService.count(),
-        courseService.getAll(),
-        courseService.getAllCourseAssigns(),
-        teacherService.getAll(),
-        timetableService.getAll(),
-        attendanceService.getAttendanceSummary(),
-      ]);
+      const dashboard = await dashboardService.getAdminDashboard();
 
-      const today = new Date().toISOString().slice(0, 10);
-      const todays = allEntries.filter((e) => e.date === today);
+      setTotalStudents(dashboard.studentCount);
+      setTotalTeachers(dashboard.teacherCount);
+      setTotalCourses(dashboard.courseCount);
 
-      setTotalStudents(studentCount);
-      setTotalTeachers(teacherCount);
-      setTotalCourses(courseCount);
+      setCoursesList(dashboard.featuredCourses);
+      setAssigns(dashboard.courseAssigns);
+      setTeachers(dashboard.teachers);
 
-      setCoursesList(courseData);
-      setAssigns(assignData);
-      setTeachers(teacherData);
-
-      setTodaysClasses(todays.length);
-      setTimetableEntries(todays);
+      setTodaysClasses(dashboard.todayClassCount);
+      setTimetableEntries(dashboard.todayClasses);
 
       setAttendanceCounts({
-        present: attendanceSummary.reduce(
-          (sum, r) => sum + (r.presentCount || 0),
-          0
-        ),
-        absent: attendanceSummary.reduce(
-          (sum, r) => sum + (r.absentCount || 0),
-          0
-        ),
+        present: dashboard.presentCount,
+        absent: dashboard.absentCount,
       });
     } catch (e) {
       console.error(e);
@@ -42,21 +42,12 @@ const Attendance: React.FC = () => {
     }
 
     try {
-      // 1) Fetch attendance
-      const records = await attendanceService.getAttendanceByStudent(studentId);
-
-      // 2) Aggregate per-course
-      const stats = new Map<number, { attended: number; total: number }>();
-      records.forEach(({ courseId, status }) => {
-        const entry = stats.get(courseId) || { attended: 0, total: 0 };
-        entry.total++;
-        if (status.toLowerCase() === "present") entry.attended++;
-        stats.set(courseId, entry);
-      });
-
-      // 3) Build CourseStat array
+      // 1) Fetch per-course statistics
+      const stats = await attendanceService.getStudentStats(studentId);
+
+      // 2) Build CourseStat array
       const arr: CourseStat[] = [];
-      for (const [courseId, { attended, total }] of stats.entries()) {
+      for (const { courseId, presentCount: attended, totalCount: total } of stats) {
         let name = `Course ${courseId}`;
         await courseService.getById(courseId)
           .then(c => { name = c.name; })
@@ -66,7 +57,7 @@ const Attendance: React.FC = () => {
       }
       setCourseStats(arr);
 
-      // 4) Overall stats
+      // 3) Overall stats
       const totalClasses = arr.reduce((s, c) => s + c.totalClasses, 0);
       const totalAttended = arr.reduce((s, c) => s + c.attendedClasses, 0);
       const perc = totalClasses > 0
@@ -52,68 +52,58 @@ const StudentDashboard: React.FC = () => {
     }
 
     // Enrolled courses
-    let assigns = await courseService.getAllCourseAssigns().catch((e) => {
+    const assigns = await courseService.getCourseAssignsByUser(sid).catch((e) => {
       console.error(e);
       setError(STR.ERROR_FETCH_ASSIGNMENTS);
       return [];
     });
-    assigns = assigns.filter((a) => a.userId === sid);
     setEnrolledCount(assigns.length);
     const courseIds = assigns.map((a) => a.courseId);
 
-    // Attendance records
-    const records = await attendanceService.getAttendanceByStudent(sid).catch((e) => {
+    // Attendance statistics per course
+    const stats = await attendanceService.getStudentStats(sid).catch((e) => {
       console.error(e);
       setError(STR.ERROR_FETCH_ATTENDANCE);
       return [];
     });
-    const presents = records.filter((r) => r.status.toLowerCase() === "present").length;
-    setAvgAttendance(records.length > 0 ? Math.round((presents / records.length) * 100) : 0);
-
-    // Trend (last 4 weeks)
-    const getWeek = (d: Date) => {
-      const dt = new Date(Date.UTC(d.getFullYear(), d.getMonth(), d.getDate()));
-      const day = dt.getUTCDay() || 7;
-      dt.setUTCDate(dt.getUTCDate() + 4 - day);
-      const yearStart = new Date(Date.UTC(dt.getUTCFullYear(), 0, 1));
-      return Math.ceil(((dt.valueOf() - yearStart.valueOf()) / 86400000 + 1) / 7);
-    };
-    const weekMap = new Map<number, { present: number; total: number }>();
-    records.forEach((r) => {
-      const wk = getWeek(new Date(r.date));
-      const agg = weekMap.get(wk) || { present: 0, total: 0 };
-      agg.total++;
-      if (r.status.toLowerCase() === "present") agg.present++;
-      weekMap.set(wk, agg);
-    });
-    const weeks = Array.from(weekMap.keys()).sort((a, b) => a - b).slice(-4);
-    setTrendLabels(weeks.map((w) => `W${w}`));
-    setTrendData(weeks.map((w) => {
-      const agg = weekMap.get(w)!;
+    const totalCount = stats.reduce((s, c) => s + c.totalCount, 0);
+    const presents = stats.reduce((s, c) => s + c.presentCount, 0);
+    setAvgAttendance(totalCount > 0 ? Math.round((presents / totalCount) * 100) : 0);
+
+    // Trend (last 4 months)
+    const monthMap = new Map<string, { present: number; total: number }>();
+    stats.forEach((c) => c.months.forEach((m) => {
+      const agg = monthMap.get(m.month) || { present: 0, total: 0 };
+      agg.total += m.totalCount;
+      agg.present += m.presentCount;
+      monthMap.set(m.month, agg);
+    }));
+    const months = Array.from(monthMap.keys()).sort().slice(-4);
+    setTrendLabels(months);
+    setTrendData(months.map((m) => {
+      const agg = monthMap.get(m)!;
       return agg.total > 0 ? Math.round((agg.present / agg.total) * 100) : 0;
     }));
 
     // Attendance totals per course
     const totals: AttendanceTotal[] = [];
     for (const cid of courseIds) {
-      const recs = records.filter((r) => r.courseId === cid);
-      const presentCount = recs.filter((r) => r.status.toLowerCase() === "present").length;
+      const stat = stats.find((c) => c.courseId === cid);
       let cname = `Course ${cid}`;
       await courseService.getById(cid)
         .then((c) => (cname = c.name))
         .catch(() => {});
-      totals.push({ id: cid, courseName: cname, attended: presentCount, total: recs.length });
+      totals.push({ id: cid, courseName: cname, attended: stat?.presentCount ?? 0, total: stat?.totalCount ?? 0 });
     }
     setAttendanceTotals(totals);
 
     // Today's timetable
     const today = new Date().toISOString().slice(0, 10);
-    const timetable = await timetableService.getAll().catch((e) => {
+    const todays = await timetableService.getForUser(sid, today, today).catch((e) => {
       console.error(e);
       setError(STR.ERROR_FETCH_TIMETABLE);
       return [];
     });
-    const todays = timetable.filter((e) => e.date === today && courseIds.includes(e.courseId));
     const enriched = await Promise.all(
       todays.map(async (e) => {
         let cname = `Course ${e.courseId}`, tname = `Teacher ${e.teacherId}`;
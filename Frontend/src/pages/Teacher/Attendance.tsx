@@ -1,5 +1,6 @@
 // src/pages/Teacher/Attendance.tsx
 import React, { useState, useEffect, useCallback, useMemo } from "react";
+import axios from "axios";
 
 // Common UI components
 import Sidebar from "../../components/common/Sidebar";
@@ -25,6 +26,7 @@ interface AttendanceRecordRow {
 const AttendancePage: React.FC = () => {
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
+  const [notice, setNotice] = useState<string | null>(null);
 
   const [courses, setCourses] = useState<Course[]>([]);
   const [selectedCourseId, setSelectedCourseId] = useState<number | null>(null);
@@ -43,8 +45,8 @@ const AttendancePage: React.FC = () => {
     }
 
     try {
-      const assigns = await courseService.getAllCourseAssigns();
-      const myCourses = assigns.filter(a => a.userId === tid && a.role === "Teacher");
+      const assigns = await courseService.getCourseAssignsByUser(tid);
+      const myCourses = assigns.filter(a => a.role === "Teacher");
       const details: Course[] = [];
       for (const a of myCourses) {
         try {
@@ -73,9 +75,9 @@ const AttendancePage: React.FC = () => {
 
     // students
     try {
-      const assigns = await courseService.getAllCourseAssigns();
+      const assigns = await courseService.getCourseAssignsByCourse(selectedCourseId);
       const studs = assigns
-        .filter(a => a.courseId === selectedCourseId && a.role === "STUDENT")
+        .filter(a => a.role === "STUDENT")
         .map(a => a.userId);
       const details: Student[] = [];
       for (const uid of studs) {
@@ -124,22 +126,22 @@ const AttendancePage: React.FC = () => {
     if (selectedCourseId == null) return;
     setLoading(true);
     setError(null);
+    setNotice(null);
 
     const date = new Date().toISOString().slice(0, 10);
     try {
-      for (const [uid, present] of Object.entries(attendanceInput)) {
-        await attendanceService.markAttendance({
-          userId: Number(uid),
-          role: "Student",
-          courseId: selectedCourseId,
-          date,
-          status: present ? "Present" : "Absent",
-        });
+      const entries = Object.entries(attendanceInput).map(([uid, present]) => ({
+        userId: Number(uid),
+        status: present ? "PRESENT" : "ABSENT",
+      }));
+      if (entries.length > 0) {
+        const queued = await attendanceService.markRollCall({ courseId: selectedCourseId, date, role: "STUDENT", entries });
+        if (queued) setNotice(S.INFO_ROLL_CALL_QUEUED);
       }
       await loadCourseDetails();
     } catch (e) {
       console.error(e);
-      setError(S.ERROR_MARK_ATTENDANCE);
+      setError(axios.isAxiosError(e) && e.response?.status === 503 ? S.ERROR_ATTENDANCE_BUSY : S.ERROR_MARK_ATTENDANCE);
     }
     setLoading(false);
   };
@@ -180,6 +182,7 @@ const AttendancePage: React.FC = () => {
           </div>
 
           {error && <div className="p-4 bg-red-600 rounded">{error}</div>}
+          {notice && <div className="p-4 bg-blue-600 rounded">{notice}</div>}
 
           {/* Attendance Form */}
           <Card
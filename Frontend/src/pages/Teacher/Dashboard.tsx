@@ -39,17 +39,15 @@ const TeacherDashboard: React.FC = () => {
       const user = localStorage.getItem("user") ?? sessionStorage.getItem("user") ?? "{}";
       const tidStr = JSON.parse(user);
       if (!tidStr.userId) throw new Error(STR.ERROR_NO_TEACHER_ID);
-      const tid = Number(tidStr);
+      const tid = Number(tidStr.userId);
 
       // assignments
-      const assignsAll: CourseAssignment[] = await courseService.getAllCourseAssigns();
-      const assigns: CourseAssignment[] = assignsAll.filter(a => a.userId === tid);
+      const assigns: CourseAssignment[] = await courseService.getCourseAssignsByUser(tid);
       setCoursesTaught(assigns.length);
       const courseIds = assigns.map(a => a.courseId);
 
       // attendance
-      const allAttendance = await attendanceService.getAll();
-      const recs = allAttendance.filter(r => courseIds.includes(r.courseId));
+      const recs = (await Promise.all(courseIds.map(cid => attendanceService.getAttendanceByCourse(cid)))).flat();
       setTotalStudents(new Set(recs.map(r => r.userId)).size);
 
       const weekMap = new Map<number, { present:number; total:number }>();
@@ -76,9 +74,8 @@ const TeacherDashboard: React.FC = () => {
       setAttendanceTotals(totals);
 
       // timetable
-      const allSched = await timetableService.getAll();
       const today = new Date().toISOString().slice(0,10);
-      const todays = allSched.filter(e=>e.teacherId===tid && e.date===today);
+      const todays = (await timetableService.getForUser(tid, today, today)).filter(e=>e.teacherId===tid);
       const enriched = await Promise.all(todays.map(async e=>{
         let name = `Course ${e.courseId}`;
         try { name = (await courseService.getById(e.courseId)).name; } catch (error) {
@@ -10,10 +10,24 @@ import CommonButton from "../../components/common/Button";
 import timetableService, { TimetableEntry } from "../../services/timetableService";
 import { TEACHER_TIMETABLE_STRINGS as STR } from "../../constants/teacher/timetableConsts";
 
+// The server accepts windows of at most 92 days; the page grows its window a week at a time.
+const DAYS_PER_WEEK = 7;
+const MAX_WEEKS = Math.floor(92 / DAYS_PER_WEEK);
+
+const addDays = (isoDate: string, days: number): string => {
+  const d = new Date(`${isoDate}T00:00:00Z`);
+  d.setUTCDate(d.getUTCDate() + days);
+  return d.toISOString().slice(0, 10);
+};
+
 const TeacherTimetable: React.FC = () => {
   const [entries, setEntries] = useState<TimetableEntry[]>([]);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
+  const [weeks, setWeeks] = useState(1);
+
+  const today = useMemo(() => new Date().toISOString().slice(0, 10), []);
+  const windowEnd = useMemo(() => addDays(today, weeks * DAYS_PER_WEEK - 1), [today, weeks]);
 
   const fetchData = useCallback(async () => {
     setLoading(true);
@@ -27,7 +41,7 @@ const TeacherTimetable: React.FC = () => {
     }
 
     try {
-      const all = await timetableService.getAll();
+      const all = await timetableService.getForUser(tid, today, windowEnd);
       setEntries(all.filter((e) => e.teacherId === tid));
     } catch (e) {
       console.error(e);
@@ -35,16 +49,16 @@ const TeacherTimetable: React.FC = () => {
     } finally {
       setLoading(false);
     }
-  }, []);
+  }, [today, windowEnd]);
 
   useEffect(() => {
     fetchData();
   }, [fetchData]);
 
-  const today = useMemo(() => new Date().toISOString().slice(0, 10), []);
   const { todayCount, weekCount } = useMemo(() => {
+    const weekEnd = addDays(today, DAYS_PER_WEEK - 1);
     const t = entries.filter((e) => e.date === today).length;
-    return { todayCount: t, weekCount: entries.length };
+    return { todayCount: t, weekCount: entries.filter((e) => e.date <= weekEnd).length };
   }, [entries, today]);
 
   const chartData = useMemo(() => {
@@ -122,6 +136,19 @@ const TeacherTimetable: React.FC = () => {
               noDataMessage={STR.NO_DATA}
             />
           </section>
+
+          {/* Load more */}
+          <div className="flex justify-between items-center">
+            <span className="text-gray-400">{STR.LABEL_SHOWING_UNTIL} {windowEnd}</span>
+            <CommonButton
+              size="md"
+              variant="primary"
+              label={STR.BTN_LOAD_MORE}
+              onClick={() => setWeeks((w) => w + 1)}
+              isLoading={loading}
+              disabled={weeks >= MAX_WEEKS}
+            />
+          </div>
         </main>
       </div>
     </div>
@@ -24,6 +24,30 @@ export interface AttendanceSummary {
   attendancePercentage: number;
 }
 
+/**
+ * AttendanceStats interface representing a user's term statistics in one course.
+ */
+export interface AttendanceStats {
+  userId: number;
+  courseId: number;
+  totalCount: number;
+  presentCount: number;
+  attendancePercentage: number;
+  currentStreak: number;
+  longestStreak: number;
+  months: { month: string; totalCount: number; presentCount: number }[];   // month as "YYYY-MM"
+}
+
+/**
+ * RollCall interface representing the attendance of one class session.
+ */
+export interface RollCall {
+  courseId: number;
+  date: string;   // ISO date string (e.g., "2025-04-02")
+  role?: string;
+  entries: { userId: number; status: string }[];
+}
+
 /**
  * attendanceService provides methods to perform CRUD operations
  * on attendance data. It mirrors the backend AttendanceService implementation.
@@ -56,6 +80,22 @@ const attendanceService = {
     return response.data;
   },
 
+  /**
+   * markRollCall
+   * ------------
+   * Marks attendance for a whole class session in one request.
+   * The roll call is queued and written shortly after by the backend (202), or written
+   * directly when queueing is disabled (201). A full queue rejects it with 503.
+   * Endpoint: POST /attendance/ingest
+   *
+   * @param rollCall - Course, date and the status of each user.
+   * @returns A promise resolving to true if the roll call was queued, false if it was already written.
+   */
+  markRollCall: async (rollCall: RollCall): Promise<boolean> => {
+    const response = await axiosInstance.post(`/attendance/ingest`, rollCall);
+    return response.status === 202;
+  },
+
   /**
    * getAttendanceById
    * -----------------
@@ -130,6 +170,20 @@ const attendanceService = {
     return response.data;
   },
 
+  /**
+   * getStudentStats
+   * ----------------
+   * Retrieves a student's term statistics per course, computed on the server.
+   * Endpoint: GET /attendance/stats/student/{userId}
+   *
+   * @param userId - The student's/user's ID.
+   * @returns A promise resolving to an array of AttendanceStats, one per course.
+   */
+  getStudentStats: async (userId: number): Promise<AttendanceStats[]> => {
+    const response = await axiosInstance.get(`/attendance/stats/student/${userId}`);
+    return response.data;
+  },
+
   /**
    * getAttendanceByCourse
    * ----------------------
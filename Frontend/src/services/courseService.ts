@@ -104,6 +104,44 @@ const courseService = {
     return response.data.content ?? response.data;
   },
 
+  /**
+  * Retrieve all course assign records of one user, following the pages until the last one.
+  *
+  * @param userId - The user's ID.
+  * @param size (optional) - Number of records per request. Defaults to 100.
+  * @returns A promise resolving to an array of CourseAssign objects.
+  */
+  getCourseAssignsByUser: async (userId: number, size: number = 100): Promise<CourseAssign[]> => {
+    const assigns: CourseAssign[] = [];
+    for (let page = 0; ; page++) {
+      const response = await axiosInstance.get(`/courseassign/user/${userId}`, {
+        params: { page, size },
+      });
+      assigns.push(...response.data.content);
+      if (page + 1 >= response.data.page.totalPages) return assigns;
+    }
+  },
+
+  /**
+  * Retrieve all course assign records of one course, following the cursor until the last page.
+  *
+  * @param courseId - The course's ID.
+  * @param limit (optional) - Number of records per request. Defaults to 100 (the backend maximum).
+  * @returns A promise resolving to an array of CourseAssign objects.
+  */
+  getCourseAssignsByCourse: async (courseId: number, limit: number = 100): Promise<CourseAssign[]> => {
+    const assigns: CourseAssign[] = [];
+    let cursor: string | undefined;
+    do {
+      const response = await axiosInstance.get(`/courseassign/course/${courseId}`, {
+        params: { limit, cursor },
+      });
+      assigns.push(...response.data.content);
+      cursor = response.data.nextCursor ?? undefined;
+    } while (cursor);
+    return assigns;
+  },
+
   /**
   * Retrieve a single course assign record by its ID.
   *
@@ -0,0 +1,36 @@
+// src/services/dashboardService.ts
+import axiosInstance from './axiosInstance';
+import { Course, CourseAssign } from './courseService';
+import { Teacher } from './teacherService';
+import { TimetableEntry } from './timetableService';
+
+/**
+ * AdminDashboard interface matching the backend AdminDashboardDTO.
+ */
+export interface AdminDashboard {
+  studentCount: number;
+  teacherCount: number;
+  courseCount: number;
+  todayClassCount: number;
+  presentCount: number;
+  absentCount: number;
+  todayClasses: TimetableEntry[];
+  featuredCourses: Course[];
+  courseAssigns: CourseAssign[];
+  teachers: Teacher[];
+}
+
+const dashboardService = {
+  /**
+   * Retrieves everything the admin dashboard shows in one request.
+   * Endpoint: GET /dashboard/admin
+   *
+   * @returns A promise resolving to the AdminDashboard payload.
+   */
+  getAdminDashboard: async (): Promise<AdminDashboard> => {
+    const response = await axiosInstance.get(`/dashboard/admin`);
+    return response.data;
+  },
+};
+
+export default dashboardService;
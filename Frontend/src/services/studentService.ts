@@ -18,20 +18,19 @@ export interface Student {
 
 const studentService = {
   /**
-   * Retrieve all teacher records with pagination.
-   * 
-   * @param page - The page number (0-based index). Default is 0.
-   * @param size - The number of records per page. Default is 100.
-   * @returns A promise resolving to an array of Teacher objects.
-   * 
-   * Assumes the backend returns a paginated result with a `content` property.
+   * Retrieve student records with cursor pagination.
+   *
+   * @param limit - The number of records to fetch. Default is 100 (the backend maximum).
+   * @param cursor - The `nextCursor` returned with the previous page, if any.
+   * @returns A promise resolving to an array of Student objects.
+   *
+   * The backend returns a cursor page with `content` and `nextCursor` properties.
    */
-  getAll: async (page: number = 0, size: number = 100): Promise<Student[]> => {
+  getAll: async (limit: number = 100, cursor?: string): Promise<Student[]> => {
     const response = await axiosInstance.get(`/student`, {
-      params: { page, size },
+      params: { limit, cursor },
     });
-    // Assuming the backend response structure is a Page with a "content" array.
-    return response.data;
+    return response.data.content;
   },
 
   /**
@@ -35,6 +35,27 @@ const timetableService = {
     return response.data.content ?? response.data;
   },
 
+  /**
+   * Retrieves all timetable entries of the courses a user is assigned to within a date window,
+   * following the pages until the last one.
+   *
+   * @param userId - The user's ID.
+   * @param from - (Optional) First date of the window (YYYY-MM-DD). Defaults to today on the server.
+   * @param to - (Optional) Last date of the window (YYYY-MM-DD). Defaults to one week from `from`; at most 92 days.
+   * @param size - The number of records per request. Defaults to 100.
+   * @returns A promise resolving to an array of TimetableEntry objects.
+   */
+  getForUser: async (userId: number, from?: string, to?: string, size: number = 100): Promise<TimetableEntry[]> => {
+    const entries: TimetableEntry[] = [];
+    for (let page = 0; ; page++) {
+      const response = await axiosInstance.get(`/timetable/user/${userId}`, {
+        params: { from, to, page, size },
+      });
+      entries.push(...response.data.content);
+      if (page + 1 >= response.data.page.totalPages) return entries;
+    }
+  },
+
   /**
    * Retrieves a single timetable entry by its ID.
    *
@@ -111,6 +111,21 @@ const userService = {
     return response.data;
   },
 
+  /**
+   * logout
+   * ------
+   * Invalidates the current session token on the server.
+   * Endpoint: POST /user/logout
+   *
+   * @param token - The session token to invalidate.
+   * @returns A promise that resolves when the token has been invalidated.
+   */
+  logout: async (token: string): Promise<void> => {
+    await axiosInstance.post(`/user/logout`, null, {
+      headers: { Authorization: token },
+    });
+  },
+
   updatePassword: async (id: number | string, user: AddUser): Promise<User> => {
     const response = await axiosInstance.post(`/user/password`, { password: user.password }, {
       params: { id }
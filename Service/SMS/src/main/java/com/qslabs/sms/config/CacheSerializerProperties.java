@@ -0,0 +1,33 @@
+package com.qslabs.sms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Value encoding of the Redis caches.
+ * Bound from {@code sms.cache.serializer}; each named cache can override the default format.
+ */
+@ConfigurationProperties(prefix = "sms.cache.serializer")
+public class CacheSerializerProperties {
+
+    private CacheValueSerializer.Format format = CacheValueSerializer.Format.JSON;
+    private Map<String, CacheValueSerializer.Format> caches = new HashMap<>();
+
+    /**
+     * Returns the format used to write values of a cache.
+     *
+     * @param cacheName name of the cache
+     * @return configured format, or the default
+     */
+    public CacheValueSerializer.Format forCache(String cacheName) {
+        return caches.getOrDefault(cacheName, format);
+    }
+
+    public CacheValueSerializer.Format getFormat() { return format; }
+    public void setFormat(CacheValueSerializer.Format format) { this.format = format; }
+
+    public Map<String, CacheValueSerializer.Format> getCaches() { return caches; }
+    public void setCaches(Map<String, CacheValueSerializer.Format> caches) { this.caches = caches; }
+}
@@ -0,0 +1,97 @@
+package com.qslabs.sms.config;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * Redis value serializer for cached objects.
+ * Writes either polymorphic JSON or Smile, the binary form of the same Jackson model.
+ * Smile back-references repeated property names and class names, so large cached lists
+ * are much smaller and faster to parse. Values are read in either format regardless of
+ * the configured one, which lets a cache switch formats without a flush.
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    /**
+     * Encoding used when writing cache values.
+     */
+    public enum Format {
+        JSON,
+        SMILE
+    }
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private static final ObjectMapper JSON_MAPPER = configure(new ObjectMapper());
+
+    private static final ObjectMapper SMILE_MAPPER = configure(new ObjectMapper(SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build()));
+
+    private final Format format;
+
+    public CacheValueSerializer(Format format) {
+        this.format = format;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            return mapperFor(format).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return mapperFor(isSmile(bytes) ? Format.SMILE : Format.JSON).readValue(bytes, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Applies the cache mapper settings: java.time support and type information on every value.
+     *
+     * @param mapper mapper to configure
+     * @return the same mapper
+     */
+    static ObjectMapper configure(ObjectMapper mapper) {
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfSubType(Object.class).build(),
+                ObjectMapper.DefaultTyping.EVERYTHING,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return mapper;
+    }
+
+    private static ObjectMapper mapperFor(Format format) {
+        return format == Format.SMILE ? SMILE_MAPPER : JSON_MAPPER;
+    }
+
+    private static boolean isSmile(byte[] bytes) {
+        return bytes.length >= SMILE_HEADER.length
+                && bytes[0] == SMILE_HEADER[0]
+                && bytes[1] == SMILE_HEADER[1]
+                && bytes[2] == SMILE_HEADER[2];
+    }
+}
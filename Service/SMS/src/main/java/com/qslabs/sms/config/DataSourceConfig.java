@@ -0,0 +1,103 @@
+package com.qslabs.sms.config;
+
+import com.qslabs.sms.util.Constants;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration class that splits database traffic over two connection pools.
+ * Read-only transactions labelled {@link Constants#REPORTING_TX_LABEL} (attendance
+ * summaries, searches, exports and the paged listings) run on the reporting pool, which may point at
+ * a replica. Every other transaction stays on the primary pool, including the read-only ones behind
+ * cached reads, so a lagging replica never refills a cache with rows the primary has already changed.
+ * Enabled with sms.datasource.reporting.enabled; otherwise Spring Boot's single pool is used and the
+ * label has no effect.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sms.datasource.reporting.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    /**
+     * Pool for writes and read-write transactions, bound from spring.datasource like the default pool.
+     *
+     * @param properties spring.datasource settings
+     * @return primary connection pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Pool for read-only transactions, bound from sms.datasource.reporting.hikari.
+     * Every connection gets a statement timeout, so a runaway report cannot hold a connection for long.
+     *
+     * @param statementTimeout longest time a reporting statement may run
+     * @return reporting connection pool
+     */
+    @Bean
+    @ConfigurationProperties("sms.datasource.reporting.hikari")
+    public HikariDataSource reportingDataSource(@Value("${sms.datasource.reporting.statement-timeout:30s}") Duration statementTimeout) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("reporting");
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionInitSql("SET statement_timeout = " + statementTimeout.toMillis());
+        return dataSource;
+    }
+
+    /**
+     * DataSource used by JPA and JdbcTemplate. A connection is only taken from a pool once the first
+     * statement runs, so the transaction that runs it decides which pool serves it.
+     *
+     * @param primary   primary connection pool
+     * @param reporting reporting connection pool
+     * @return routing DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("reportingDataSource") DataSource reporting) {
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return ReportingTransactionManager.isReportingTransaction() ? Constants.REPORTING_TX_LABEL : null;
+            }
+        };
+        routing.setTargetDataSources(Map.of(Constants.REPORTING_TX_LABEL, reporting));
+        routing.setDefaultTargetDataSource(primary);
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Transaction manager that marks reporting transactions for the routing DataSource; replaces
+     * Spring Boot's JPA transaction manager and applies the same customizers.
+     *
+     * @param customizers transaction manager customizers
+     * @return JPA transaction manager
+     */
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        ReportingTransactionManager transactionManager = new ReportingTransactionManager();
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,76 @@
+package com.qslabs.sms.config;
+
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration class for the application's bounded thread pools.
+ * Keeps background and fan-out work off the Tomcat request threads.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Executor used by the dashboard service to load its parts in parallel.
+     *
+     * @return bounded executor for dashboard fan-out calls
+     */
+    @Bean(name = Constants.DASHBOARD_EXECUTOR)
+    public Executor dashboardExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that checks login passwords, one hash per thread.
+     * The queue is kept short, so a waiting check starts within a few hash times; a full queue
+     * rejects new checks, which the login answers with a 503.
+     *
+     * @param threads       number of threads, by default one per CPU
+     * @param queueCapacity number of checks that may wait for a thread, by default two per thread
+     * @return bounded executor for password checks
+     */
+    @Bean(name = Constants.LOGIN_EXECUTOR)
+    public ThreadPoolTaskExecutor loginExecutor(@Value("${sms.login.threads:0}") int threads,
+                                                @Value("${sms.login.queue-capacity:0}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity > 0 ? queueCapacity : 2 * poolSize);
+        executor.setThreadNamePrefix("login-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor that hashes the passwords of student imports, one chunk of rows per thread.
+     * A full queue rejects further imports, which are answered with a 503.
+     *
+     * @param threads       number of threads, by default one per CPU
+     * @param queueCapacity number of chunks that may wait for a thread, by default four per thread
+     * @return bounded executor for import password hashing
+     */
+    @Bean(name = Constants.IMPORT_HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor importHashExecutor(@Value("${sms.import.hash-threads:0}") int threads,
+                                                     @Value("${sms.import.hash-queue-capacity:0}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity > 0 ? queueCapacity : 4 * poolSize);
+        executor.setThreadNamePrefix("import-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,61 @@
+package com.qslabs.sms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings for the in-process (L1) layer of the two-level cache.
+ * Bound from {@code sms.cache.local}; each named cache can override the defaults.
+ */
+@ConfigurationProperties(prefix = "sms.cache.local")
+public class LocalCacheProperties {
+
+    private Spec defaults = new Spec(1000L, Duration.ofSeconds(60));
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * Returns the L1 settings for a cache, falling back to the defaults.
+     *
+     * @param cacheName name of the cache
+     * @return settings for that cache
+     */
+    public Spec forCache(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        return new Spec(spec.getMaxSize() != null ? spec.getMaxSize() : defaults.getMaxSize(),
+                spec.getTtl() != null ? spec.getTtl() : defaults.getTtl());
+    }
+
+    public Spec getDefaults() { return defaults; }
+    public void setDefaults(Spec defaults) { this.defaults = defaults; }
+
+    public Map<String, Spec> getCaches() { return caches; }
+    public void setCaches(Map<String, Spec> caches) { this.caches = caches; }
+
+    /**
+     * Size bound and time-to-live of one L1 cache.
+     */
+    public static class Spec {
+        private Long maxSize;
+        private Duration ttl;
+
+        public Spec() {
+        }
+
+        public Spec(Long maxSize, Duration ttl) {
+            this.maxSize = maxSize;
+            this.ttl = ttl;
+        }
+
+        public Long getMaxSize() { return maxSize; }
+        public void setMaxSize(Long maxSize) { this.maxSize = maxSize; }
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+    }
+}
@@ -1,12 +1,6 @@
 package com.qslabs.sms.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,37 +8,43 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.*;
 
 import java.time.Duration;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({LocalCacheProperties.class, CacheSerializerProperties.class})
 public class RedisCacheConfig {
 
+    private static final String ADMIN_DASHBOARD_CACHE = "adminDashboard";
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // ✅ Fully configured ObjectMapper
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        objectMapper.activateDefaultTyping(
-                BasicPolymorphicTypeValidator.builder().allowIfSubType(Object.class).build(),
-                ObjectMapper.DefaultTyping.EVERYTHING,
-                JsonTypeInfo.As.PROPERTY
-        );
-
-        GenericJackson2JsonRedisSerializer valueSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory, LocalCacheProperties localCacheProperties,
+                                             CacheSerializerProperties serializerProperties, StringRedisTemplate redisTemplate) {
         RedisSerializer<String> keySerializer = new StringRedisSerializer();
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
-                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(keySerializer))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(keySerializer));
+
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(withFormat(config, serializerProperties.getFormat()));
+        // caches that override the default value format, e.g. large attendance lists in SMILE
+        serializerProperties.getCaches().forEach((name, format) ->
+                builder.withCacheConfiguration(name, withFormat(config, format)));
+        builder.withCacheConfiguration(ADMIN_DASHBOARD_CACHE, withFormat(config.entryTtl(Duration.ofSeconds(30)), // short-lived shared dashboard snapshot
+                serializerProperties.forCache(ADMIN_DASHBOARD_CACHE)));
+
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        // Caffeine L1 in front of Redis L2; sizes and TTLs come from sms.cache.local
+        return new TwoLevelCacheManager(redisCacheManager, localCacheProperties, redisTemplate);
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+    private RedisCacheConfiguration withFormat(RedisCacheConfiguration config, CacheValueSerializer.Format format) {
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new CacheValueSerializer(format)));
     }
 }
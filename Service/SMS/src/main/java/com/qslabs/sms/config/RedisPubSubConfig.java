@@ -0,0 +1,40 @@
+package com.qslabs.sms.config;
+
+import com.qslabs.sms.service.impl.AttendanceIndexServiceImpl;
+import com.qslabs.sms.service.impl.AttendanceLiveServiceImpl;
+import com.qslabs.sms.util.Constants;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Configuration class for Redis pub/sub.
+ * Registers the listeners that keep in-process caches consistent across nodes.
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    /**
+     * Listener container subscribing the local caches to their invalidation channels.
+     *
+     * @param connectionFactory Redis connection factory
+     * @param tokenCache        token near-cache to invalidate on logout
+     * @param cacheManager      two-level cache manager whose L1 entries are invalidated on change
+     * @param attendanceIndex   in-memory attendance index updated on attendance writes
+     * @param attendanceLive    live attendance summary merging the changes of other nodes
+     * @return configured RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory, TokenCache tokenCache, TwoLevelCacheManager cacheManager,
+                                                                       AttendanceIndexServiceImpl attendanceIndex, AttendanceLiveServiceImpl attendanceLive) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenCache, new ChannelTopic(Constants.TOKEN_INVALIDATION_CHANNEL));
+        container.addMessageListener(cacheManager, new ChannelTopic(Constants.CACHE_INVALIDATION_CHANNEL));
+        container.addMessageListener(attendanceIndex, new ChannelTopic(Constants.ATTENDANCE_INDEX_CHANNEL));
+        container.addMessageListener(attendanceLive, new ChannelTopic(Constants.ATTENDANCE_LIVE_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,48 @@
+package com.qslabs.sms.config;
+
+import com.qslabs.sms.util.Constants;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * JPA transaction manager that remembers whether the current transaction is a reporting one:
+ * read-only and labelled {@link Constants#REPORTING_TX_LABEL}. The routing DataSource of
+ * {@link DataSourceConfig} reads the flag when the transaction takes its connection.
+ * Suspended transactions resume in reverse order, so the flags are kept as a stack per thread.
+ */
+public class ReportingTransactionManager extends JpaTransactionManager {
+
+    private static final ThreadLocal<Deque<Boolean>> REPORTING = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * @return true if the transaction of the current thread is a reporting transaction
+     */
+    public static boolean isReportingTransaction() {
+        return Boolean.TRUE.equals(REPORTING.get().peek());
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        REPORTING.get().push(definition.isReadOnly() && definition instanceof TransactionAttribute attribute
+                && attribute.getLabels().contains(Constants.REPORTING_TX_LABEL));
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error e) {
+            REPORTING.get().pop();
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            REPORTING.get().pop();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.qslabs.sms.config;
 
 import com.qslabs.sms.service.impl.CustomUserDetailsService;
 import com.qslabs.sms.util.Constants;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -66,6 +67,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable()) // Disable CSRF protection (not recommended for production unless using stateless APIs)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(Constants.ADD_MAPPING).permitAll() // Publicly accessible endpoints
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // streamed exports (and live streams) finish on an async dispatch of an already authorized request
                         .anyRequest().authenticated() // All other requests require authentication
                 )
                 .addFilterBefore(tokenAuthFilter, UsernamePasswordAuthenticationFilter.class)
@@ -1,6 +1,5 @@
 package com.qslabs.sms.config;
 
-import com.qslabs.sms.dto.AuthDTO;
 import com.qslabs.sms.service.impl.RedisTokenService;
 import com.qslabs.sms.util.Constants;
 import jakarta.servlet.FilterChain;
@@ -9,13 +8,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
 public class TokenAuthFilter extends OncePerRequestFilter {
@@ -29,13 +26,13 @@ public class TokenAuthFilter extends OncePerRequestFilter {
 
         String token = request.getHeader(Constants.AUTH_HEADER);
 
-        if (token != null && redisTokenService.isValid(token)) {
-            AuthDTO tokenData = redisTokenService.getTokenData(token);
+        if (token != null) {
+            TokenCache.Entry cached = redisTokenService.getCachedTokenData(token);
 
-            if (tokenData != null && tokenData.getRole() != null) {
-                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + tokenData.getRole());
+            if (cached != null) {
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(tokenData.getUsername(), null, Collections.singletonList(authority));
+                        new UsernamePasswordAuthenticationToken(cached.getData().getUsername(), null, cached.getAuthorities());
+                authentication.setDetails(cached.getData()); // carries the user ID for per-user access checks
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
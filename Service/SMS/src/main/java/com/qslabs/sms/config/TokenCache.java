@@ -0,0 +1,92 @@
+package com.qslabs.sms.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.qslabs.sms.dto.AuthDTO;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * In-process near-cache for validated session tokens.
+ * Holds the parsed token data and granted authorities for a short time so most
+ * authenticated requests skip the Redis round trips. Logouts are broadcast over
+ * Redis pub/sub so every node drops the token from its local cache.
+ */
+@Component
+public class TokenCache implements MessageListener {
+
+    private final Cache<String, Entry> cache;
+    private final StringRedisTemplate redisTemplate;
+
+    public TokenCache(StringRedisTemplate redisTemplate,
+                      @Value("${sms.token-cache.max-size:10000}") long maxSize,
+                      @Value("${sms.token-cache.ttl:30s}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Returns the cached entry for a token, loading it on a miss.
+     * Tokens the loader cannot resolve are not cached.
+     *
+     * @param token  session token
+     * @param loader loads the token data from the backing store, or returns null
+     * @return cached entry, or null if the token is unknown
+     */
+    public Entry get(String token, Function<String, AuthDTO> loader) {
+        return cache.get(token, key -> {
+            AuthDTO data = loader.apply(key);
+            return data == null || data.getRole() == null ? null : new Entry(data);
+        });
+    }
+
+    /**
+     * Drops a token from this node and tells all other nodes to drop it.
+     *
+     * @param token session token
+     */
+    public void invalidate(String token) {
+        cache.invalidate(token);
+        redisTemplate.convertAndSend(Constants.TOKEN_INVALIDATION_CHANNEL, token);
+    }
+
+    /**
+     * Handles an invalidation broadcast from any node, including this one.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parsed token data together with its granted authorities.
+     */
+    public static final class Entry {
+        private final AuthDTO data;
+        private final List<GrantedAuthority> authorities;
+
+        Entry(AuthDTO data) {
+            this.data = data;
+            this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + data.getRole()));
+        }
+
+        public AuthDTO getData() { return data; }
+
+        public List<GrantedAuthority> getAuthorities() { return authorities; }
+    }
+}
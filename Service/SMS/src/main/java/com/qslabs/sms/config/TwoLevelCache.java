@@ -0,0 +1,121 @@
+package com.qslabs.sms.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with a bounded in-process L1 (Caffeine) in front of a shared L2 (Redis).
+ * Reads try L1 first and fill it from L2 on a miss. Writes and evictions go to both
+ * layers and are broadcast so other nodes drop their stale L1 entries.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final TwoLevelCacheManager manager;
+
+    TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local, Cache remote, TwoLevelCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper value = local.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+        value = remote.get(key);
+        if (value != null) {
+            local.put(localKey, new SimpleValueWrapper(value.get()));
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        if (value == null) {
+            return null;
+        }
+        Object stored = value.get();
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper value = local.getIfPresent(localKey);
+        if (value != null) {
+            return (T) value.get();
+        }
+        T loaded = remote.get(key, valueLoader);
+        local.put(localKey, new SimpleValueWrapper(loaded));
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        manager.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        manager.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishClear(name);
+    }
+
+    /**
+     * Drops an entry from L1 only, after another node changed it.
+     *
+     * @param localKey string form of the cache key
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    /**
+     * Drops all L1 entries only, after another node cleared the cache.
+     */
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * L1 keys use the same string form Redis uses, so invalidation messages can name them.
+     */
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,91 @@
+package com.qslabs.sms.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.qslabs.sms.util.Constants;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager that layers a Caffeine L1 over the Redis cache manager.
+ * L1 size and TTL are configured per cache through {@link LocalCacheProperties}.
+ * Changes are published on a Redis channel; every other node evicts the affected
+ * L1 entries when it receives them.
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager remoteCacheManager;
+    private final LocalCacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, LocalCacheProperties properties, StringRedisTemplate redisTemplate) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        LocalCacheProperties.Spec spec = properties.forCache(name);
+        return new TwoLevelCache(name, Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfterWrite(spec.getTtl())
+                .build(), remote, this);
+    }
+
+    /**
+     * Tells the other nodes to drop one L1 entry.
+     */
+    void publishEvict(String cacheName, String key) {
+        redisTemplate.convertAndSend(Constants.CACHE_INVALIDATION_CHANNEL, nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    /**
+     * Tells the other nodes to drop all L1 entries of a cache.
+     */
+    void publishClear(String cacheName) {
+        redisTemplate.convertAndSend(Constants.CACHE_INVALIDATION_CHANNEL, nodeId + SEPARATOR + cacheName);
+    }
+
+    /**
+     * Applies an invalidation published by another node. Messages from this node are ignored.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts.length == 3) {
+            cache.evictLocal(parts[2]);
+        } else {
+            cache.clearLocal();
+        }
+    }
+}
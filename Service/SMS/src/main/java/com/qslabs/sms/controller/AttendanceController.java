@@ -1,9 +1,19 @@
 package com.qslabs.sms.controller;
 
 import com.qslabs.sms.dto.AttendanceDTO;
+import com.qslabs.sms.dto.AttendanceFilterDTO;
+import com.qslabs.sms.dto.AttendanceStatsDTO;
 import com.qslabs.sms.dto.AttendanceSummaryDTO;
+import com.qslabs.sms.dto.IngestStatusDTO;
+import com.qslabs.sms.dto.RollCallDTO;
+import com.qslabs.sms.service.AttendanceExportService;
+import com.qslabs.sms.service.AttendanceIndexService;
+import com.qslabs.sms.service.AttendanceIngestService;
+import com.qslabs.sms.service.AttendanceLiveService;
+import com.qslabs.sms.service.AttendanceRollupService;
 import com.qslabs.sms.service.AttendanceService;
 import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -11,10 +21,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -32,12 +46,31 @@ public class AttendanceController {
     @Autowired
     private AttendanceService attendanceService;
 
+    @Autowired
+    private AttendanceRollupService attendanceRollupService;
+
+    @Autowired
+    private AttendanceIngestService attendanceIngestService;
+
+    @Autowired
+    private AttendanceExportService attendanceExportService;
+
+    @Autowired
+    private AttendanceIndexService attendanceIndexService;
+
+    @Autowired
+    private AttendanceLiveService attendanceLiveService;
+
     @GetMapping
-    public Page<AttendanceDTO> getAllAttendance(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending) {
+    public ResponseEntity<?> getAllAttendance(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            CursorUtil.requireIdSort(sortBy);
+            return ResponseEntity.ok(attendanceService.getAllAttendance(limit != null ? limit : size, cursor, ascending));
+        }
 
         Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        return attendanceService.getAllAttendance(pageable);
+        return ResponseEntity.ok(attendanceService.getAllAttendance(pageable));
     }
 
     /**
@@ -52,6 +85,54 @@ public class AttendanceController {
         return new ResponseEntity<>(attendanceService.markAttendance(attendanceDTO), HttpStatus.CREATED);
     }
 
+    /**
+     * Marks attendance for a whole class session in one request. Only accessible by admins and teachers.
+     *
+     * @param rollCall course, date and the status of each user
+     * @return number of attendance records written
+     */
+    @Secured({"ROLE_ADMIN","ROLE_TEACHER"})
+    @PostMapping("/rollcall")
+    public ResponseEntity<Integer> markRollCall(@Valid @RequestBody RollCallDTO rollCall) {
+        return new ResponseEntity<>(attendanceService.markRollCall(rollCall), HttpStatus.CREATED);
+    }
+
+    /**
+     * Queues a roll call for write-behind ingestion. Only accessible by admins and teachers.
+     * The request returns once the roll call is durably queued; a background writer stores it.
+     *
+     * @param rollCall course, date and the status of each user
+     * @return queue entry ID with 202, or 201 when ingestion is disabled and the roll call was written directly
+     */
+    @Secured({"ROLE_ADMIN","ROLE_TEACHER"})
+    @PostMapping("/ingest")
+    public ResponseEntity<String> ingestRollCall(@Valid @RequestBody RollCallDTO rollCall) {
+        String id = attendanceIngestService.enqueue(rollCall);
+        return new ResponseEntity<>(id, id != null ? HttpStatus.ACCEPTED : HttpStatus.CREATED);
+    }
+
+    /**
+     * Returns the state of the attendance ingestion queue.
+     *
+     * @return backlog, pending and dead-lettered entry counts and the writer state
+     */
+    @Secured({"ROLE_ADMIN","ROLE_TEACHER"})
+    @GetMapping("/ingest/status")
+    public ResponseEntity<IngestStatusDTO> getIngestStatus() {
+        return ResponseEntity.ok(attendanceIngestService.getStatus());
+    }
+
+    /**
+     * Writes all queued roll calls before returning. Only accessible by users with ROLE_ADMIN.
+     *
+     * @return queue state after the flush
+     */
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/ingest/flush")
+    public ResponseEntity<IngestStatusDTO> flushIngest() {
+        return ResponseEntity.ok(attendanceIngestService.flush());
+    }
+
 // TODO Add pagination - as a new method to get students (1-10, 11-20..)
     /**
      * Retrieves attendance records for a specific student within an optional date range.
@@ -155,4 +236,138 @@ public class AttendanceController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Searches attendance records. Every filter is optional and only the supplied ones restrict the result.
+     *
+     * @param from     (Optional) first date of the range
+     * @param to       (Optional) last date of the range
+     * @param courseId (Optional) course ID
+     * @param role     (Optional) role of the users
+     * @param userIds  (Optional) IDs of the users
+     * @param status   (Optional) PRESENT or ABSENT
+     * @param page     page number (default is 0)
+     * @param size     number of records per page (default is 10, at most {@link Constants#MAX_PAGE_SIZE})
+     * @return page of matching attendance records, newest first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Page<AttendanceDTO>> searchAttendance(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) List<Long> userIds,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        AttendanceFilterDTO filter = new AttendanceFilterDTO(from, to, courseId, role);
+        filter.setUserIds(userIds);
+        filter.setStatus(status);
+        Pageable pageable = PageRequest.of(page, CursorUtil.clampLimit(size), Sort.by("date").descending().and(Sort.by("id").descending()));
+        return ResponseEntity.ok(attendanceService.searchAttendance(filter, pageable));
+    }
+
+    /**
+     * Exports attendance records as a file download, streamed from the database as it is read.
+     * Only accessible by users with ROLE_ADMIN.
+     *
+     * @param from     (Optional) first date of the range
+     * @param to       (Optional) last date of the range
+     * @param courseId (Optional) course ID
+     * @param role     (Optional) role of the users
+     * @param format   csv or ndjson (default is csv)
+     * @param gzip     whether to gzip the file (default is false)
+     * @return streamed attendance records ordered by date
+     */
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAttendance(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        AttendanceExportService.Format exportFormat = AttendanceExportService.Format.of(format);
+        AttendanceFilterDTO filter = new AttendanceFilterDTO(from, to, courseId, role);
+        String fileName = "attendance." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> attendanceExportService.export(filter, exportFormat, gzip, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .body(body);
+    }
+
+    /**
+     * Streams per-course changes of the attendance summary as Server-Sent Events.
+     * Writes are coalesced into at most one "attendance" event per second, holding the change of
+     * total and present records of each course; load the summary once and apply the changes to it.
+     * Only accessible by users with ROLE_ADMIN.
+     *
+     * @return emitter of the live attendance summary changes
+     */
+    @Secured("ROLE_ADMIN")
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAttendanceSummary() {
+        return attendanceLiveService.subscribe();
+    }
+
+    /**
+     * Retrieves the attendance statistics of a student in each of their courses for the current term.
+     * Served from the in-memory attendance index.
+     *
+     * @param userId ID of the student
+     * @return totals, percentage, streaks and monthly counts per course
+     */
+    @GetMapping("/stats/student/{userId}")
+    public ResponseEntity<List<AttendanceStatsDTO>> getStudentStats(@PathVariable Long userId) {
+        return ResponseEntity.ok(attendanceIndexService.getStatsByUser(userId));
+    }
+
+    /**
+     * Retrieves the attendance statistics of a student in one course for the current term.
+     * Served from the in-memory attendance index.
+     *
+     * @param userId   ID of the student
+     * @param courseId ID of the course
+     * @return totals, percentage, streaks and monthly counts
+     */
+    @GetMapping("/stats/student/{userId}/course/{courseId}")
+    public ResponseEntity<AttendanceStatsDTO> getStudentCourseStats(@PathVariable Long userId, @PathVariable Long courseId) {
+        return ResponseEntity.ok(attendanceIndexService.getStats(userId, courseId));
+    }
+
+    /**
+     * Rebuilds the in-memory attendance index of this node from the attendance table.
+     * Only accessible by users with ROLE_ADMIN.
+     *
+     * @return number of attendance records loaded
+     */
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/stats/reload")
+    public ResponseEntity<Long> reloadStats() {
+        return ResponseEntity.ok(attendanceIndexService.reload());
+    }
+
+    /**
+     * Recomputes the monthly summary rollup from the attendance table. Only accessible by users with ROLE_ADMIN.
+     *
+     * @return number of rollup buckets written
+     */
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/summary/rollup/rebuild")
+    public ResponseEntity<Integer> rebuildSummaryRollup() {
+        return ResponseEntity.ok(attendanceRollupService.rebuild());
+    }
+
+    /**
+     * Compares the monthly summary rollup with the attendance table. Only accessible by users with ROLE_ADMIN.
+     *
+     * @return number of rollup buckets that do not match
+     */
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/summary/rollup/verify")
+    public ResponseEntity<Long> verifySummaryRollup() {
+        return ResponseEntity.ok(attendanceRollupService.verify());
+    }
+
 }
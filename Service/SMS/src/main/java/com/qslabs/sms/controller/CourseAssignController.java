@@ -2,7 +2,10 @@ package com.qslabs.sms.controller;
 
 import com.qslabs.sms.dto.CourseAssignDTO;
 import com.qslabs.sms.service.CourseAssignService;
+import com.qslabs.sms.service.AccessService;
 import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
+import com.qslabs.sms.util.PageUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -23,6 +26,9 @@ public class CourseAssignController {
     @Autowired
     private CourseAssignService courseAssignService;
 
+    @Autowired
+    private AccessService accessService;
+
     /**
      * Retrieves all course assignments with pagination and sorting.
      *
@@ -30,15 +36,54 @@ public class CourseAssignController {
      * @param size      number of records per page (default is 10)
      * @param sortBy    field to sort by (default is "id")
      * @param ascending sort order (true for ascending, false for descending)
-     * @return paginated list of CourseAssignDTO
+     * @param limit     (Optional) page size of a cursor listing, at most 100; switches to cursor pagination
+     * @param cursor    (Optional) nextCursor of the previous cursor listing; switches to cursor pagination
+     * @return paginated list of CourseAssignDTO, or a cursor page when limit or cursor is given
      */
     @GetMapping
-    public ResponseEntity<Page<CourseAssignDTO>> getAllCoursesAssign(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending) {
+    public ResponseEntity<?> getAllCoursesAssign(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            CursorUtil.requireIdSort(sortBy);
+            return ResponseEntity.ok(courseAssignService.getAllCoursesAssignment(limit != null ? limit : size, cursor, ascending));
+        }
         Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         return ResponseEntity.ok(courseAssignService.getAllCoursesAssignment(pageable));
     }
 
+    /**
+     * Retrieves the course assignments of a user.
+     * Only the user themselves or an admin may read them.
+     *
+     * @param userId ID of the user
+     * @param page   page number (default is 0)
+     * @param size   number of records per page (default is 10)
+     * @return paginated list of CourseAssignDTO ordered by ID
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<Page<CourseAssignDTO>> getCourseAssignsByUser(@PathVariable Long userId, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+        accessService.requireSelfOrAdmin(userId);
+        return ResponseEntity.ok(PageUtil.page(courseAssignService.getCourseAssignsByUser(userId), PageRequest.of(page, size)));
+    }
+
+    /**
+     * Retrieves the course assignments of a course.
+     *
+     * @param courseId ID of the course
+     * @param page     page number (default is 0)
+     * @param size     number of records per page (default is 10)
+     * @param limit    (Optional) page size of a cursor listing, at most 100; switches to cursor pagination
+     * @param cursor   (Optional) nextCursor of the previous cursor listing; switches to cursor pagination
+     * @return paginated list of CourseAssignDTO ordered by ID, or a cursor page when limit or cursor is given
+     */
+    @GetMapping("/course/{courseId}")
+    public ResponseEntity<?> getCourseAssignsByCourse(@PathVariable Long courseId, @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            return ResponseEntity.ok(courseAssignService.getCourseAssignsByCourse(courseId, limit != null ? limit : size, cursor));
+        }
+        return ResponseEntity.ok(courseAssignService.getCourseAssignsByCourse(courseId, PageRequest.of(page, size, Sort.by("id"))));
+    }
+
     /**
      * Retrieves a course assignment by its ID.
      *
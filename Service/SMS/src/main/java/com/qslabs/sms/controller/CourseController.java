@@ -5,9 +5,9 @@ import com.qslabs.sms.dto.CourseDTO;
 import com.qslabs.sms.service.CourseAssignService;
 import com.qslabs.sms.service.CourseService;
 import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -35,10 +35,16 @@ public class CourseController {
      * @param size      Number of items per page (default = 10)
      * @param sortBy    Field to sort by (default = "id")
      * @param ascending Sort direction (true for ascending, false for descending)
-     * @return Paginated list of courses
+     * @param limit     (Optional) page size of a cursor listing, at most 100; switches to cursor pagination
+     * @param cursor    (Optional) nextCursor of the previous cursor listing; switches to cursor pagination
+     * @return Paginated list of courses, or a cursor page when limit or cursor is given
      */
     @GetMapping
-    public ResponseEntity<Page<CourseDTO>> getAllCourses(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending) {
+    public ResponseEntity<?> getAllCourses(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            CursorUtil.requireIdSort(sortBy);
+            return ResponseEntity.ok(courseService.getAllCourses(limit != null ? limit : size, cursor, ascending));
+        }
         Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         return ResponseEntity.ok(courseService.getAllCourses(pageable));
@@ -0,0 +1,34 @@
+package com.qslabs.sms.controller;
+
+import com.qslabs.sms.dto.AdminDashboardDTO;
+import com.qslabs.sms.service.DashboardService;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for dashboard aggregate endpoints.
+ */
+@RestController
+@RequestMapping(Constants.REQUEST_MAPPING_DASHBOARD)
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    /**
+     * Retrieves everything the admin dashboard shows in one response.
+     * Only accessible by users with ROLE_ADMIN.
+     *
+     * @return AdminDashboardDTO with counts and top-N lists
+     */
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/admin")
+    public ResponseEntity<AdminDashboardDTO> getAdminDashboard() {
+        return ResponseEntity.ok(dashboardService.getAdminDashboard());
+    }
+}
@@ -1,15 +1,20 @@
 package com.qslabs.sms.controller;
 
+import com.qslabs.sms.dto.CursorPageDTO;
+import com.qslabs.sms.dto.ImportReportDTO;
 import com.qslabs.sms.dto.StudentDTO;
 import com.qslabs.sms.model.Student;
+import com.qslabs.sms.service.StudentImportService;
 import com.qslabs.sms.service.StudentService;
 import com.qslabs.sms.util.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * REST Controller for managing student records.
@@ -23,16 +28,20 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
 
+    @Autowired
+    private StudentImportService studentImportService;
+
     /**
-     * Retrieves all students with pagination.
+     * Retrieves students with cursor (keyset) pagination.
      *
-     * @param limit Number of students per page
-     * @param offset Starting point for fetching students
-     * @return ResponseEntity containing a paginated list of students
+     * @param limit Number of students per page (capped at 100)
+     * @param cursor Opaque cursor returned as nextCursor by the previous page
+     * @param sortBy Sort key, "studentId" (default) or "lastName"
+     * @return ResponseEntity containing a page of students and the next cursor
      */
     @GetMapping
-    public ResponseEntity<List<StudentDTO>> getAllStudents(@RequestParam(defaultValue = "10") int limit, @RequestParam(defaultValue = "0") int offset) {
-        return ResponseEntity.ok(studentService.getAllStudents(limit, offset));
+    public ResponseEntity<CursorPageDTO<StudentDTO>> getAllStudents(@RequestParam(defaultValue = "10") int limit, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "studentId") String sortBy) {
+        return ResponseEntity.ok(studentService.getAllStudents(limit, cursor, sortBy));
     }
 
     /**
@@ -59,6 +68,24 @@ public class StudentController {
         return ResponseEntity.ok(studentService.addStudent(student));
     }
 
+    /**
+     * Creates student users and student records in bulk from an uploaded CSV or NDJSON file.
+     * Rows that fail validation are skipped and listed in the report with their row number.
+     *
+     * @param file   CSV file with a header row, or NDJSON file with one student per line
+     * @param format "csv" (default) or "ndjson"
+     * @return ResponseEntity containing the import report
+     * @throws IOException if the upload cannot be read
+     */
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/import")
+    public ResponseEntity<ImportReportDTO> importStudents(@RequestParam MultipartFile file, @RequestParam(defaultValue = "csv") String format) throws IOException {
+        StudentImportService.Format importFormat = StudentImportService.Format.of(format);
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(studentImportService.importStudents(in, importFormat));
+        }
+    }
+
     /**
      * Updates an existing student record.
      *
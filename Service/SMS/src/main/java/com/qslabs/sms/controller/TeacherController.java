@@ -3,9 +3,9 @@ package com.qslabs.sms.controller;
 import com.qslabs.sms.dto.TeacherDTO;
 import com.qslabs.sms.service.TeacherService;
 import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -35,10 +35,16 @@ public class TeacherController {
      * @param size      Number of records per page (default = 10)
      * @param sortBy    Field name to sort by (default = "id")
      * @param ascending Sort order (true = ASC, false = DESC)
-     * @return Paginated list of teachers
+     * @param limit     (Optional) page size of a cursor listing, at most 100; switches to cursor pagination
+     * @param cursor    (Optional) nextCursor of the previous cursor listing; switches to cursor pagination
+     * @return Paginated list of teachers, or a cursor page when limit or cursor is given
      */
         @GetMapping
-        public ResponseEntity<Page<TeacherDTO>> getAllStudents(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending) {
+        public ResponseEntity<?> getAllStudents(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor) {
+            if (limit != null || cursor != null) {
+                CursorUtil.requireIdSort(sortBy);
+                return ResponseEntity.ok(teacherService.getAllTeachers(limit != null ? limit : size, cursor, ascending));
+            }
             Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
             Pageable pageable = PageRequest.of(page, size, sort);
             return ResponseEntity.ok(teacherService.getAllTeachers(pageable));
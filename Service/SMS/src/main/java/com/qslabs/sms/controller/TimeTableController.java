@@ -2,17 +2,22 @@ package com.qslabs.sms.controller;
 
 import com.qslabs.sms.dto.TimeTableDTO;
 import com.qslabs.sms.service.TimeTableService;
+import com.qslabs.sms.service.AccessService;
 import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
+import com.qslabs.sms.util.PageUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -25,6 +30,9 @@ public class TimeTableController {
     @Autowired
     private TimeTableService service;
 
+    @Autowired
+    private AccessService accessService;
+
     /**
      * Retrieves all timetables with pagination and sorting.
      *
@@ -32,15 +40,45 @@ public class TimeTableController {
      * @param size      Number of records per page (default = 10)
      * @param sortBy    Field to sort by (default = "id")
      * @param ascending Sort direction (true = ASC, false = DESC)
-     * @return Paginated list of TimeTableDTO
+     * @param limit     (Optional) page size of a cursor listing, at most 100; switches to cursor pagination
+     * @param cursor    (Optional) nextCursor of the previous cursor listing; switches to cursor pagination
+     * @return Paginated list of TimeTableDTO, or a cursor page when limit or cursor is given
      */
     @GetMapping
-    public ResponseEntity<Page<TimeTableDTO>> getAllTimeTables(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending) {
+    public ResponseEntity<?> getAllTimeTables(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            CursorUtil.requireIdSort(sortBy);
+            return ResponseEntity.ok(service.getAllTimeTables(limit != null ? limit : size, cursor, ascending));
+        }
         Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         return ResponseEntity.ok(service.getAllTimeTables(pageable));
     }
 
+    /**
+     * Retrieves the timetable entries of the courses a user is assigned to within a date window.
+     * Only the user themselves or an admin may read them.
+     *
+     * @param userId ID of the user
+     * @param from   first date of the window (default = today)
+     * @param to     last date of the window (default = one week from the first date)
+     * @param page   Page number (default = 0)
+     * @param size   Number of records per page (default = 10)
+     * @return Paginated list of TimeTableDTO ordered by date and start time
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<Page<TimeTableDTO>> getTimeTablesForUser(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        accessService.requireSelfOrAdmin(userId);
+        LocalDate windowStart = from != null ? from : LocalDate.now();
+        LocalDate windowEnd = to != null ? to : windowStart.plusDays(Constants.DEFAULT_TIMETABLE_WINDOW_DAYS - 1);
+        return ResponseEntity.ok(PageUtil.page(service.getTimeTablesForUser(userId, windowStart, windowEnd), PageRequest.of(page, size)));
+    }
+
     /**
      * Retrieves a timetable entry by its ID.
      *
@@ -4,8 +4,8 @@ import com.qslabs.sms.dto.UserDTO;
 import com.qslabs.sms.dto.UserResponseDTO;
 import com.qslabs.sms.service.UserService;
 import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,7 +26,11 @@ public class UserController {
     private UserService userService;
 
     @GetMapping
-    public ResponseEntity<Page<UserResponseDTO>> getAllUsers(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending) {
+    public ResponseEntity<?> getAllUsers(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "id") String sortBy, @RequestParam(defaultValue = "true") boolean ascending, @RequestParam(required = false) Integer limit, @RequestParam(required = false) String cursor) {
+        if (limit != null || cursor != null) {
+            CursorUtil.requireIdSort(sortBy);
+            return ResponseEntity.ok(userService.getAllUsers(limit != null ? limit : size, cursor, ascending));
+        }
         Sort sort = ascending ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         return ResponseEntity.ok(userService.getAllUsers(pageable));
@@ -54,6 +58,18 @@ public class UserController {
         return ResponseEntity.ok(userService.isUser(userDTO.getUsername(), userDTO.getPassword()));
     }
 
+    /**
+     * Logs out the current session by invalidating its token.
+     *
+     * @param token Session token from the Authorization header
+     * @return HTTP 204 No Content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(Constants.AUTH_HEADER) String token) {
+        userService.logout(token);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Updates a user's username by ID.
      *
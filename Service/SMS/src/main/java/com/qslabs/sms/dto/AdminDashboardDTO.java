@@ -0,0 +1,58 @@
+package com.qslabs.sms.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the admin dashboard.
+ * Bundles the counts and top-N lists shown on the admin dashboard into one payload.
+ */
+public class AdminDashboardDTO {
+
+    private Long studentCount;
+    private Long teacherCount;
+    private Long courseCount;
+    private Long todayClassCount;
+    private Long presentCount;
+    private Long absentCount;
+    private List<TimeTableDTO> todayClasses;
+    private List<CourseDTO> featuredCourses;
+    private List<CourseAssignDTO> courseAssigns;
+    private List<TeacherDTO> teachers;
+
+    /**
+     * Default constructor required for deserialization.
+     */
+    public AdminDashboardDTO() {
+    }
+
+    // Getters and Setters
+    public Long getStudentCount() { return studentCount; }
+    public void setStudentCount(Long studentCount) { this.studentCount = studentCount; }
+
+    public Long getTeacherCount() { return teacherCount; }
+    public void setTeacherCount(Long teacherCount) { this.teacherCount = teacherCount; }
+
+    public Long getCourseCount() { return courseCount; }
+    public void setCourseCount(Long courseCount) { this.courseCount = courseCount; }
+
+    public Long getTodayClassCount() { return todayClassCount; }
+    public void setTodayClassCount(Long todayClassCount) { this.todayClassCount = todayClassCount; }
+
+    public Long getPresentCount() { return presentCount; }
+    public void setPresentCount(Long presentCount) { this.presentCount = presentCount; }
+
+    public Long getAbsentCount() { return absentCount; }
+    public void setAbsentCount(Long absentCount) { this.absentCount = absentCount; }
+
+    public List<TimeTableDTO> getTodayClasses() { return todayClasses; }
+    public void setTodayClasses(List<TimeTableDTO> todayClasses) { this.todayClasses = todayClasses; }
+
+    public List<CourseDTO> getFeaturedCourses() { return featuredCourses; }
+    public void setFeaturedCourses(List<CourseDTO> featuredCourses) { this.featuredCourses = featuredCourses; }
+
+    public List<CourseAssignDTO> getCourseAssigns() { return courseAssigns; }
+    public void setCourseAssigns(List<CourseAssignDTO> courseAssigns) { this.courseAssigns = courseAssigns; }
+
+    public List<TeacherDTO> getTeachers() { return teachers; }
+    public void setTeachers(List<TeacherDTO> teachers) { this.teachers = teachers; }
+}
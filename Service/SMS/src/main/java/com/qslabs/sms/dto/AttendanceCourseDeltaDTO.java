@@ -0,0 +1,38 @@
+package com.qslabs.sms.dto;
+
+/**
+ * Data Transfer Object for the change of a course's attendance counts since the previous live update.
+ */
+public class AttendanceCourseDeltaDTO {
+
+    private Long courseId;
+    private long totalDelta;
+    private long presentDelta;
+
+    /**
+     * Default constructor required for deserialization.
+     */
+    public AttendanceCourseDeltaDTO() {
+    }
+
+    /**
+     * @param courseId     course ID, or null for attendance without a course
+     * @param totalDelta   change of the number of attendance records
+     * @param presentDelta change of the number of present records
+     */
+    public AttendanceCourseDeltaDTO(Long courseId, long totalDelta, long presentDelta) {
+        this.courseId = courseId;
+        this.totalDelta = totalDelta;
+        this.presentDelta = presentDelta;
+    }
+
+    // Getters and Setters
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+
+    public long getTotalDelta() { return totalDelta; }
+    public void setTotalDelta(long totalDelta) { this.totalDelta = totalDelta; }
+
+    public long getPresentDelta() { return presentDelta; }
+    public void setPresentDelta(long presentDelta) { this.presentDelta = presentDelta; }
+}
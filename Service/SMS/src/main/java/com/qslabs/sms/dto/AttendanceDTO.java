@@ -48,6 +48,14 @@ public class AttendanceDTO {
         this.status = status;
     }
 
+    /**
+     * Constructor used by repository queries that select the DTO directly.
+     */
+    public AttendanceDTO(Long id, Long userId, String role, Long courseId, LocalDate date, String status) {
+        this(userId, role, courseId, date, status);
+        this.id = id;
+    }
+
     /**
      * Constructor to convert Entity to DTO.
      *
@@ -0,0 +1,53 @@
+package com.qslabs.sms.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for filtering attendance records.
+ * Every criterion is optional; only the ones that are set restrict the result.
+ */
+public class AttendanceFilterDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private Long courseId;
+    private String role;
+    private List<Long> userIds;
+    private String status;
+
+    /**
+     * Default constructor required for deserialization.
+     */
+    public AttendanceFilterDTO() {
+    }
+
+    /**
+     * Constructor for a date range filter with optional course and role.
+     */
+    public AttendanceFilterDTO(LocalDate from, LocalDate to, Long courseId, String role) {
+        this.from = from;
+        this.to = to;
+        this.courseId = courseId;
+        this.role = role;
+    }
+
+    // Getters and Setters
+    public LocalDate getFrom() { return from; }
+    public void setFrom(LocalDate from) { this.from = from; }
+
+    public LocalDate getTo() { return to; }
+    public void setTo(LocalDate to) { this.to = to; }
+
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public List<Long> getUserIds() { return userIds; }
+    public void setUserIds(List<Long> userIds) { this.userIds = userIds; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+}
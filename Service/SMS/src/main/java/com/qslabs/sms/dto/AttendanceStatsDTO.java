@@ -0,0 +1,78 @@
+package com.qslabs.sms.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the attendance statistics of a user in a course over the current term.
+ * Served from the in-memory attendance index.
+ */
+public class AttendanceStatsDTO {
+
+    private Long userId;
+    private Long courseId;
+    private long totalCount;
+    private long presentCount;
+    private double attendancePercentage;
+    private int currentStreak;
+    private int longestStreak;
+    private List<MonthCount> months;
+
+    /**
+     * Default constructor required for deserialization.
+     */
+    public AttendanceStatsDTO() {
+    }
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+
+    public long getTotalCount() { return totalCount; }
+    public void setTotalCount(long totalCount) { this.totalCount = totalCount; }
+
+    public long getPresentCount() { return presentCount; }
+    public void setPresentCount(long presentCount) { this.presentCount = presentCount; }
+
+    public double getAttendancePercentage() { return attendancePercentage; }
+    public void setAttendancePercentage(double attendancePercentage) { this.attendancePercentage = attendancePercentage; }
+
+    public int getCurrentStreak() { return currentStreak; }
+    public void setCurrentStreak(int currentStreak) { this.currentStreak = currentStreak; }
+
+    public int getLongestStreak() { return longestStreak; }
+    public void setLongestStreak(int longestStreak) { this.longestStreak = longestStreak; }
+
+    public List<MonthCount> getMonths() { return months; }
+    public void setMonths(List<MonthCount> months) { this.months = months; }
+
+    /**
+     * Attendance counts of one calendar month.
+     */
+    public static class MonthCount {
+
+        private String month;
+        private long totalCount;
+        private long presentCount;
+
+        public MonthCount() {
+        }
+
+        public MonthCount(String month, long totalCount, long presentCount) {
+            this.month = month;
+            this.totalCount = totalCount;
+            this.presentCount = presentCount;
+        }
+
+        public String getMonth() { return month; }
+        public void setMonth(String month) { this.month = month; }
+
+        public long getTotalCount() { return totalCount; }
+        public void setTotalCount(long totalCount) { this.totalCount = totalCount; }
+
+        public long getPresentCount() { return presentCount; }
+        public void setPresentCount(long presentCount) { this.presentCount = presentCount; }
+    }
+}
@@ -27,6 +27,14 @@ public class CourseAssignDTO {
         this.role = role;
     }
 
+    /**
+     * Constructor used by repository queries that select the DTO directly.
+     */
+    public CourseAssignDTO(Long id, Long courseId, Long userId, String role) {
+        this(courseId, userId, role);
+        this.id = id;
+    }
+
     /**
      * Converts a CourseAssign entity into a CourseAssignDTO.
      *
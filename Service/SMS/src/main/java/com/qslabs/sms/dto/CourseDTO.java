@@ -30,6 +30,14 @@ public class CourseDTO {
         this.description = description;
     }
 
+    /**
+     * Constructor used by repository queries that select the DTO directly.
+     */
+    public CourseDTO(Long id, String code, String name, Integer credits, Integer duration, String description) {
+        this(code, name, credits, duration, description);
+        this.id = id;
+    }
+
     /**
      * Constructor to convert a Course entity to CourseDTO.
      *
@@ -0,0 +1,40 @@
+package com.qslabs.sms.dto;
+
+import java.util.List;
+
+/**
+ * Response wrapper for cursor (keyset) paginated listings.
+ * Carries one page of results and an opaque cursor that points at the next page.
+ *
+ * @param <T> type of the listed records
+ */
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private int size;
+    private boolean hasNext;
+
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.size = content.size();
+        this.hasNext = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+}
@@ -0,0 +1,69 @@
+package com.qslabs.sms.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk import: row counts and the reason each rejected row was skipped.
+ */
+public class ImportReportDTO {
+
+    private int totalRows;
+    private int importedRows;
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * Default constructor required for deserialization.
+     */
+    public ImportReportDTO() {
+    }
+
+    /**
+     * Records a rejected row.
+     *
+     * @param row      1-based number of the data row in the upload
+     * @param username username of the row, if it could be read
+     * @param message  reason the row was rejected
+     */
+    public void addError(int row, String username, String message) {
+        errors.add(new RowError(row, username, message));
+    }
+
+    // Getters and Setters
+    public int getTotalRows() { return totalRows; }
+    public void setTotalRows(int totalRows) { this.totalRows = totalRows; }
+
+    public int getImportedRows() { return importedRows; }
+    public void setImportedRows(int importedRows) { this.importedRows = importedRows; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    /**
+     * A row that was not imported.
+     */
+    public static class RowError {
+
+        private int row;
+        private String username;
+        private String message;
+
+        public RowError() {
+        }
+
+        public RowError(int row, String username, String message) {
+            this.row = row;
+            this.username = username;
+            this.message = message;
+        }
+
+        public int getRow() { return row; }
+        public void setRow(int row) { this.row = row; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -0,0 +1,45 @@
+package com.qslabs.sms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the state of the attendance ingestion queue.
+ */
+public class IngestStatusDTO {
+
+    private boolean enabled;
+    private Long backlog;
+    private Long pending;
+    private Long deadLettered;
+    private Long writtenRows;
+    private LocalDateTime lastDrainAt;
+    private String lastError;
+
+    /**
+     * Default constructor required for deserialization.
+     */
+    public IngestStatusDTO() {
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Long getBacklog() { return backlog; }
+    public void setBacklog(Long backlog) { this.backlog = backlog; }
+
+    public Long getPending() { return pending; }
+    public void setPending(Long pending) { this.pending = pending; }
+
+    public Long getDeadLettered() { return deadLettered; }
+    public void setDeadLettered(Long deadLettered) { this.deadLettered = deadLettered; }
+
+    public Long getWrittenRows() { return writtenRows; }
+    public void setWrittenRows(Long writtenRows) { this.writtenRows = writtenRows; }
+
+    public LocalDateTime getLastDrainAt() { return lastDrainAt; }
+    public void setLastDrainAt(LocalDateTime lastDrainAt) { this.lastDrainAt = lastDrainAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
@@ -0,0 +1,76 @@
+package com.qslabs.sms.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a roll call.
+ * Carries the attendance of a whole class session: one course, one date and a status per user.
+ */
+public class RollCallDTO {
+
+    @NotNull(message = "Course ID cannot be null")
+    private Long courseId;
+
+    @NotNull(message = "Date cannot be null")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private String role;
+
+    @NotEmpty(message = "Entries cannot be empty")
+    @Valid
+    private List<Entry> entries;
+
+    /**
+     * Default constructor required for deserialization.
+     */
+    public RollCallDTO() {
+    }
+
+    // Getters and Setters
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public List<Entry> getEntries() { return entries; }
+    public void setEntries(List<Entry> entries) { this.entries = entries; }
+
+    /**
+     * Attendance status of one user in the session.
+     */
+    public static class Entry {
+
+        @NotNull(message = "User ID cannot be null")
+        private Long userId;
+
+        @NotNull(message = "Status cannot be null")
+        @Pattern(regexp = "PRESENT|ABSENT", message = "Status must be either 'PRESENT' or 'ABSENT'")
+        private String status;
+
+        public Entry() {
+        }
+
+        public Entry(Long userId, String status) {
+            this.userId = userId;
+            this.status = status;
+        }
+
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+    }
+}
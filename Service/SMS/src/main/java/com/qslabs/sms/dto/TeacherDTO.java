@@ -40,6 +40,14 @@ public class TeacherDTO {
             this.role = role;
         }
 
+    /**
+     * Constructor used by repository queries that select the DTO directly.
+     */
+        public TeacherDTO(Long id, Long userId, String name, String phone, LocalDate dob, String gender, String address, LocalDate joiningDate, String status, String role) {
+            this(userId, name, phone, dob, gender, address, joiningDate, status, role);
+            this.id = id;
+        }
+
     /**
      * Converts a Teacher entity into a TeacherDTO.
      *
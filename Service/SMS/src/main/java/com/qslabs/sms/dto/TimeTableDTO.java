@@ -36,6 +36,14 @@ public class TimeTableDTO {
         this.classroom = classroom;
     }
 
+    /**
+     * Constructor used by repository queries that select the DTO directly.
+     */
+    public TimeTableDTO(Long id, LocalDate date, LocalTime startTime, LocalTime endTime, Long teacherId, Long courseId, String classroom) {
+        this(date, startTime, endTime, teacherId, courseId, classroom);
+        this.id = id;
+    }
+
     /**
      * Constructor to convert a TimeTable entity into a DTO.
      *
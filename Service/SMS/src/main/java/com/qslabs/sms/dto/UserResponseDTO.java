@@ -14,6 +14,16 @@ public class UserResponseDTO {
 
     public UserResponseDTO() {}
 
+    /**
+     * Constructor used by repository queries that select the DTO directly.
+     */
+    public UserResponseDTO(Long id, String username, String email, String role) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.role = role;
+    }
+
     public UserResponseDTO(User user) {
         this.id = user.getId();
         this.username = user.getUsername();
@@ -0,0 +1,35 @@
+package com.qslabs.sms.event;
+
+import com.qslabs.sms.model.Attendance;
+
+import java.util.List;
+
+/**
+ * Published once per attendance write with the rows as they were before and after the write.
+ * Listeners read the user, course and date of each row to update whatever depends on them,
+ * such as the attendance caches and the attendance index, once the write has committed.
+ */
+public class AttendanceChangedEvent {
+
+    private final List<Attendance> removed;
+    private final List<Attendance> written;
+
+    /**
+     * @param removed attendance records that were deleted or replaced
+     * @param written attendance records that were written
+     */
+    public AttendanceChangedEvent(List<Attendance> removed, List<Attendance> written) {
+        this.removed = removed;
+        this.written = written;
+    }
+
+    /**
+     * @return attendance records that were deleted or replaced
+     */
+    public List<Attendance> getRemoved() { return removed; }
+
+    /**
+     * @return attendance records that were written
+     */
+    public List<Attendance> getWritten() { return written; }
+}
@@ -0,0 +1,9 @@
+package com.qslabs.sms.exception;
+
+import com.qslabs.sms.util.Constants;
+
+public class ForbiddenException extends RuntimeException {
+    public ForbiddenException() {
+        super(Constants.ACCESS_DENIED);
+    }
+}
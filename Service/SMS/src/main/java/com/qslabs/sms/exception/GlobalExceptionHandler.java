@@ -1,5 +1,7 @@
 package com.qslabs.sms.exception;
 
+import com.qslabs.sms.util.Constants;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -46,6 +48,28 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(new ErrorResponse(ex.getMessage(), request.getDescription(false)), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(IngestBacklogException.class)
+    public ResponseEntity<ErrorResponse> handleIngestBacklog(IngestBacklogException ex, WebRequest request) {
+        return new ResponseEntity<>(new ErrorResponse(ex.getMessage(), request.getDescription(false)), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ImportBusyException.class)
+    public ResponseEntity<ErrorResponse> handleImportBusy(ImportBusyException ex, WebRequest request) {
+        return new ResponseEntity<>(new ErrorResponse(ex.getMessage(), request.getDescription(false)), HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(LoginBusyException.class)
+    public ResponseEntity<ErrorResponse> handleLoginBusy(LoginBusyException ex, WebRequest request) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Constants.LOGIN_RETRY_AFTER_SECONDS)
+                .body(new ErrorResponse(ex.getMessage(), request.getDescription(false)));
+    }
+
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ErrorResponse> handleForbidden(ForbiddenException ex, WebRequest request) {
+        return new ResponseEntity<>(new ErrorResponse(ex.getMessage(), request.getDescription(false)), HttpStatus.FORBIDDEN);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex, WebRequest request) {
         ErrorResponse error = new ErrorResponse("Unexpected error: " + ex.getMessage(), request.getDescription(false));
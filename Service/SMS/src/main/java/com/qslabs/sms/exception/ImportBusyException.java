@@ -0,0 +1,9 @@
+package com.qslabs.sms.exception;
+
+import com.qslabs.sms.util.Constants;
+
+public class ImportBusyException extends RuntimeException {
+    public ImportBusyException() {
+        super(Constants.IMPORT_BUSY);
+    }
+}
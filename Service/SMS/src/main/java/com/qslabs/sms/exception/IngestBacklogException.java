@@ -0,0 +1,9 @@
+package com.qslabs.sms.exception;
+
+import com.qslabs.sms.util.Constants;
+
+public class IngestBacklogException extends RuntimeException {
+    public IngestBacklogException() {
+        super(Constants.INGEST_BACKLOG_FULL);
+    }
+}
@@ -0,0 +1,9 @@
+package com.qslabs.sms.exception;
+
+import com.qslabs.sms.util.Constants;
+
+public class LoginBusyException extends RuntimeException {
+    public LoginBusyException() {
+        super(Constants.LOGIN_BUSY);
+    }
+}
@@ -11,11 +11,17 @@ import java.time.LocalDate;
  * Stores attendance records for students and teachers against specific courses.
  */
 @Entity
-@Table(name = Constants.ATTENDANCE_TABLE) // Table name defined in a centralized Constants class
+@Table(name = Constants.ATTENDANCE_TABLE, indexes = { // Table name defined in a centralized Constants class
+        @Index(name = "idx_attendance_user_date", columnList = "user_id, date"),
+        @Index(name = "idx_attendance_user_course_date", columnList = "user_id, course_id, date"),
+        @Index(name = "idx_attendance_course_date", columnList = "course_id, date")
+}) // covering and BRIN indexes on date are created by db/indexes.sql, the unique (user, course, date) key by AttendanceUniqueKeyMigration
+// with sms.attendance.partitioning enabled the table is range partitioned by month and keyed on (id, date)
 public class Attendance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // Auto-incremented primary key
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = Constants.ATTENDANCE_SEQUENCE)
+    @SequenceGenerator(name = Constants.ATTENDANCE_SEQUENCE, sequenceName = Constants.ATTENDANCE_SEQUENCE, allocationSize = Constants.ID_ALLOCATION_SIZE)
     private Long id;
     private Long userId;
     private String role;
@@ -0,0 +1,68 @@
+package com.qslabs.sms.model;
+
+import com.qslabs.sms.util.Constants;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Entity representing one bucket of the attendance summary rollup.
+ * Holds the total and present counts of a user in a course and role for one calendar month,
+ * kept in step with the attendance table by the attendance write paths.
+ * A missing course or role is stored as 0 or an empty string so every bucket has a unique key.
+ */
+@Entity
+@Table(name = Constants.ATTENDANCE_ROLLUP_TABLE, uniqueConstraints = @UniqueConstraint(
+        name = "uk_attendance_rollup_bucket", columnNames = {"user_id", "course_id", "role", "bucket_month"}))
+public class AttendanceRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long courseId;
+
+    @Column(nullable = false)
+    private String role;
+
+    @Column(name = "bucket_month", nullable = false)
+    private LocalDate month; // first day of the month
+
+    @Column(nullable = false)
+    private Long totalCount;
+
+    @Column(nullable = false)
+    private Long presentCount;
+
+    /**
+     * Default constructor required by JPA.
+     */
+    public AttendanceRollup() {
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getCourseId() { return courseId; }
+    public void setCourseId(Long courseId) { this.courseId = courseId; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public LocalDate getMonth() { return month; }
+    public void setMonth(LocalDate month) { this.month = month; }
+
+    public Long getTotalCount() { return totalCount; }
+    public void setTotalCount(Long totalCount) { this.totalCount = totalCount; }
+
+    public Long getPresentCount() { return presentCount; }
+    public void setPresentCount(Long presentCount) { this.presentCount = presentCount; }
+}
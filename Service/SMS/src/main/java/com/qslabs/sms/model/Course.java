@@ -13,7 +13,8 @@ import jakarta.persistence.*;
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = Constants.COURSE_SEQUENCE)
+    @SequenceGenerator(name = Constants.COURSE_SEQUENCE, sequenceName = Constants.COURSE_SEQUENCE, allocationSize = Constants.ID_ALLOCATION_SIZE)
     private Long id;
 
     private String code;
@@ -9,10 +9,14 @@ import jakarta.persistence.*;
  * Mapped to the COURSEASSIGN_TABLE in the database.
  */
 @Entity
-@Table(name = Constants.COURSEASSIGN_TABLE)
+@Table(name = Constants.COURSEASSIGN_TABLE, indexes = {
+        @Index(name = "idx_course_assign_user_course", columnList = "user_id, course_id"),
+        @Index(name = "idx_course_assign_course", columnList = "course_id")
+})
 public class CourseAssign {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = Constants.COURSEASSIGN_SEQUENCE)
+    @SequenceGenerator(name = Constants.COURSEASSIGN_SEQUENCE, sequenceName = Constants.COURSEASSIGN_SEQUENCE, allocationSize = Constants.ID_ALLOCATION_SIZE)
     private Long id;
 
     private Long courseId;
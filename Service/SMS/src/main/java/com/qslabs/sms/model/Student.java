@@ -16,7 +16,8 @@ import java.util.List;
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = Constants.STUDENT_SEQUENCE)
+    @SequenceGenerator(name = Constants.STUDENT_SEQUENCE, sequenceName = Constants.STUDENT_SEQUENCE, allocationSize = Constants.ID_ALLOCATION_SIZE)
     private Long studentId;
 
     private Long userId;
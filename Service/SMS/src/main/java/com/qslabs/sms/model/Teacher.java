@@ -14,7 +14,8 @@ import java.time.LocalDate;
 @Table(name = Constants.TEACHER_TABLE)
 public class Teacher {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = Constants.TEACHER_SEQUENCE)
+    @SequenceGenerator(name = Constants.TEACHER_SEQUENCE, sequenceName = Constants.TEACHER_SEQUENCE, allocationSize = Constants.ID_ALLOCATION_SIZE)
     private Long id;
 
     private Long userId;
@@ -13,11 +13,16 @@ import java.time.LocalTime;
  * Maps to the database table defined by {@link Constants#TIMETABLE_TABLE}.
  */
 @Entity
-@Table(name = Constants.TIMETABLE_TABLE)
+@Table(name = Constants.TIMETABLE_TABLE, indexes = {
+        @Index(name = "idx_timetable_course_date", columnList = "course_id, date"),
+        @Index(name = "idx_timetable_teacher_date", columnList = "teacher_id, date"),
+        @Index(name = "idx_timetable_date_start", columnList = "date, start_time")
+})
 public class TimeTable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = Constants.TIMETABLE_SEQUENCE)
+    @SequenceGenerator(name = Constants.TIMETABLE_SEQUENCE, sequenceName = Constants.TIMETABLE_SEQUENCE, allocationSize = Constants.ID_ALLOCATION_SIZE)
     private Long id;
 
     private LocalDate date;
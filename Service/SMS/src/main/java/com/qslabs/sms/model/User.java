@@ -12,7 +12,8 @@ import jakarta.persistence.*;
 @Table(name = Constants.USER_TABLE)
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = Constants.USER_SEQUENCE)
+    @SequenceGenerator(name = Constants.USER_SEQUENCE, sequenceName = Constants.USER_SEQUENCE, allocationSize = Constants.ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
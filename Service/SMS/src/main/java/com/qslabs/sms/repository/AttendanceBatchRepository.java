@@ -0,0 +1,337 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.dto.RollCallDTO;
+import com.qslabs.sms.model.Attendance;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC repository for attendance writes.
+ * Attendance is unique per user, course and date ({@link #CREATE_UNIQUE_KEY_SQL}),
+ * so marking the same attendance again updates the existing row instead of adding a duplicate.
+ * Existing rows are locked before they are written and each upsert returns the role and status
+ * the row had before, which keeps the monthly summary rollup exact under concurrent writes.
+ */
+@Repository
+public class AttendanceBatchRepository {
+
+    /**
+     * One attendance row per user, course and date; a missing course counts as course 0, matching the
+     * summary rollup. The key includes the partition key (date), so it also works on the partitioned table.
+     */
+    public static final String CREATE_UNIQUE_KEY_SQL = "CREATE UNIQUE INDEX IF NOT EXISTS " + Constants.ATTENDANCE_UNIQUE_KEY
+            + " ON " + Constants.ATTENDANCE_TABLE + " (user_id, (COALESCE(course_id, 0)), date)";
+
+    private static final String DUPLICATE_KEYS_SQL = "SELECT user_id, COALESCE(course_id, 0), date, COUNT(*), COUNT(*) OVER ()"
+            + " FROM " + Constants.ATTENDANCE_TABLE + " GROUP BY 1, 2, 3 HAVING COUNT(*) > 1 ORDER BY 1, 2, 3 LIMIT ?";
+
+    private static final String DELETE_DUPLICATES_SQL = "DELETE FROM " + Constants.ATTENDANCE_TABLE + " a USING " + Constants.ATTENDANCE_TABLE + " b"
+            + " WHERE a.user_id = b.user_id AND COALESCE(a.course_id, 0) = COALESCE(b.course_id, 0) AND a.date = b.date AND a.id < b.id"
+            + " RETURNING a.id, a.user_id, a.course_id, a.date, a.role, a.status";
+
+    /**
+     * Locks the existing rows of the given keys; a missing course counts as course 0.
+     */
+    private static final String LOCK_EXISTING_SQL = "SELECT a.id, a.user_id, a.course_id, a.date, a.role, a.status FROM " + Constants.ATTENDANCE_TABLE + " a"
+            + " JOIN unnest(?::bigint[], ?::bigint[], ?::date[]) AS k (user_id, course_id, date)"
+            + " ON a.user_id = k.user_id AND COALESCE(a.course_id, 0) = k.course_id AND a.date = k.date"
+            + " FOR UPDATE OF a";
+
+    /**
+     * Inserts the rows whose key is still free; a key taken by a concurrent insert is skipped.
+     */
+    private static final String INSERT_MISSING_SQL = "INSERT INTO " + Constants.ATTENDANCE_TABLE
+            + " (id, user_id, role, course_id, date, status)"
+            + " SELECT * FROM unnest(?::bigint[], ?::bigint[], ?::varchar[], ?::bigint[], ?::date[], ?::varchar[])"
+            + " ON CONFLICT (user_id, (COALESCE(course_id, 0)), date) DO NOTHING RETURNING id";
+
+    private static final String UPDATE_EXISTING_SQL = "UPDATE " + Constants.ATTENDANCE_TABLE + " a SET role = u.role, status = u.status"
+            + " FROM unnest(?::bigint[], ?::date[], ?::varchar[], ?::varchar[]) AS u (id, date, role, status)"
+            + " WHERE a.id = u.id AND a.date = u.date";
+
+    private static final String ROLLUP_DELTA_SQL = "INSERT INTO " + Constants.ATTENDANCE_ROLLUP_TABLE
+            + " (user_id, course_id, role, bucket_month, total_count, present_count) VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON CONFLICT (user_id, course_id, role, bucket_month) DO UPDATE"
+            + " SET total_count = " + Constants.ATTENDANCE_ROLLUP_TABLE + ".total_count + EXCLUDED.total_count,"
+            + " present_count = " + Constants.ATTENDANCE_ROLLUP_TABLE + ".present_count + EXCLUDED.present_count";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdBlockRepository idBlockRepository;
+
+    /**
+     * @return true if the unique key of the attendance table exists
+     */
+    public boolean hasUniqueKey() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                Constants.ATTENDANCE_UNIQUE_KEY));
+    }
+
+    /**
+     * Blocks attendance writes until the caller commits, so no duplicate can appear while the key is built.
+     */
+    public void lockForUniqueKey() {
+        jdbcTemplate.execute("LOCK TABLE " + Constants.ATTENDANCE_TABLE + " IN SHARE ROW EXCLUSIVE MODE");
+    }
+
+    /**
+     * Lists the user, course and date combinations holding more than one attendance row.
+     *
+     * @param limit largest number of combinations to list
+     * @return one line per combination, with the number of rows and the total number of combinations
+     */
+    public List<String> findDuplicateKeys(int limit) {
+        return jdbcTemplate.query(DUPLICATE_KEYS_SQL, (rs, rowNum) -> "user " + rs.getLong(1) + ", course " + rs.getLong(2)
+                + ", date " + rs.getDate(3) + ": " + rs.getLong(4) + " rows (" + rs.getLong(5) + " combinations in total)", limit);
+    }
+
+    /**
+     * Deletes all but the latest row of each duplicated user, course and date.
+     *
+     * @return the deleted rows
+     */
+    public List<Attendance> deleteDuplicates() {
+        return jdbcTemplate.query(DELETE_DUPLICATES_SQL, (rs, rowNum) -> {
+            Attendance attendance = new Attendance();
+            attendance.setId(rs.getLong(1));
+            attendance.setUserId(rs.getLong(2));
+            attendance.setCourseId(rs.getObject(3, Long.class));
+            attendance.setDate(rs.getObject(4, LocalDate.class));
+            attendance.setRole(rs.getString(5));
+            attendance.setStatus(rs.getString(6));
+            return attendance;
+        });
+    }
+
+    /**
+     * Creates the unique key; fails if duplicate rows exist.
+     */
+    public void createUniqueKey() {
+        jdbcTemplate.execute(CREATE_UNIQUE_KEY_SQL);
+    }
+
+    /**
+     * Inserts an attendance record, or updates the role and status of the existing record of the
+     * same user, course and date. Runs in the caller's transaction.
+     *
+     * @param attendance attendance to write
+     * @return the written row and the row it replaced, if any
+     */
+    public Upserted upsert(Attendance attendance) {
+        return upsertAll(List.of(attendance)).get(0);
+    }
+
+    /**
+     * Upserts one attendance row per roll call entry. Runs in the caller's transaction.
+     *
+     * @param rollCall roll call with course, date and the status of each user
+     * @param role     role stored on every row
+     * @return the written rows, each with the row it replaced, if any
+     */
+    public List<Upserted> upsertRollCall(RollCallDTO rollCall, String role) {
+        List<Attendance> rows = new ArrayList<>();
+        for (RollCallDTO.Entry entry : rollCall.getEntries()) {
+            Attendance attendance = new Attendance();
+            attendance.setUserId(entry.getUserId());
+            attendance.setRole(role);
+            attendance.setCourseId(rollCall.getCourseId());
+            attendance.setDate(rollCall.getDate());
+            attendance.setStatus(entry.getStatus());
+            rows.add(attendance);
+        }
+        return upsertAll(rows);
+    }
+
+    /**
+     * Upserts rows with distinct keys in three statements: the existing rows are locked and read,
+     * the missing ones are inserted with IDs reserved for them only, and the locked ones are updated
+     * where their role or status changes. A key another transaction inserts in between is picked up
+     * by another round, so the replaced row is always known.
+     */
+    private List<Upserted> upsertAll(List<Attendance> rows) {
+        Map<List<Object>, Attendance> remaining = new LinkedHashMap<>();
+        rows.forEach(row -> remaining.put(key(row), row));
+        List<Upserted> upserted = new ArrayList<>();
+        while (!remaining.isEmpty()) {
+            List<Attendance> existing = lockExisting(remaining);
+            List<Upserted> updated = new ArrayList<>();
+            for (Attendance previous : existing) {
+                Attendance current = remaining.remove(key(previous));
+                current.setId(previous.getId());
+                updated.add(new Upserted(current, previous));
+            }
+            updateChanged(updated);
+            upserted.addAll(updated);
+            if (!remaining.isEmpty()) {
+                for (Attendance inserted : insertMissing(remaining.values())) {
+                    remaining.remove(key(inserted));
+                    upserted.add(new Upserted(inserted, null));
+                }
+            }
+        }
+        return upserted;
+    }
+
+    private List<Attendance> lockExisting(Map<List<Object>, Attendance> rows) {
+        Long[] userIds = rows.values().stream().map(Attendance::getUserId).toArray(Long[]::new);
+        Long[] courseIds = rows.values().stream().map(row -> row.getCourseId() != null ? row.getCourseId() : Constants.ROLLUP_NO_COURSE)
+                .toArray(Long[]::new);
+        Date[] dates = rows.values().stream().map(row -> Date.valueOf(row.getDate())).toArray(Date[]::new);
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOCK_EXISTING_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", userIds));
+            ps.setArray(2, con.createArrayOf("bigint", courseIds));
+            ps.setArray(3, con.createArrayOf("date", dates));
+            return ps;
+        }, (rs, rowNum) -> {
+            Attendance previous = new Attendance();
+            previous.setId(rs.getLong(1));
+            previous.setUserId(rs.getLong(2));
+            previous.setCourseId(rs.getObject(3, Long.class));
+            previous.setDate(rs.getObject(4, LocalDate.class));
+            previous.setRole(rs.getString(5));
+            previous.setStatus(rs.getString(6));
+            return previous;
+        });
+    }
+
+    /**
+     * @return the rows that were inserted, with their IDs set
+     */
+    private List<Attendance> insertMissing(Collection<Attendance> rows) {
+        List<Attendance> missing = new ArrayList<>(rows);
+        Long[] ids = idBlockRepository.reserve(Constants.ATTENDANCE_SEQUENCE, missing.size());
+        Map<Long, Attendance> byId = new HashMap<>();
+        for (int i = 0; i < missing.size(); i++) {
+            byId.put(ids[i], missing.get(i));
+        }
+        List<Long> inserted = jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_MISSING_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", ids));
+            ps.setArray(2, con.createArrayOf("bigint", missing.stream().map(Attendance::getUserId).toArray()));
+            ps.setArray(3, con.createArrayOf("varchar", missing.stream().map(Attendance::getRole).toArray()));
+            ps.setArray(4, con.createArrayOf("bigint", missing.stream().map(Attendance::getCourseId).toArray()));
+            ps.setArray(5, con.createArrayOf("date", missing.stream().map(row -> Date.valueOf(row.getDate())).toArray()));
+            ps.setArray(6, con.createArrayOf("varchar", missing.stream().map(Attendance::getStatus).toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+        List<Attendance> written = new ArrayList<>();
+        for (Long id : inserted) {
+            Attendance row = byId.get(id);
+            row.setId(id);
+            written.add(row);
+        }
+        return written;
+    }
+
+    /**
+     * Writes the new role and status of locked rows; rows marked again with the same values are left alone.
+     */
+    private void updateChanged(List<Upserted> rows) {
+        List<Attendance> changed = rows.stream()
+                .filter(row -> !Objects.equals(row.getCurrent().getRole(), row.getPrevious().getRole())
+                        || !Objects.equals(row.getCurrent().getStatus(), row.getPrevious().getStatus()))
+                .map(Upserted::getCurrent)
+                .collect(Collectors.toList());
+        if (changed.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(UPDATE_EXISTING_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", changed.stream().map(Attendance::getId).toArray()));
+            ps.setArray(2, con.createArrayOf("date", changed.stream().map(row -> Date.valueOf(row.getDate())).toArray()));
+            ps.setArray(3, con.createArrayOf("varchar", changed.stream().map(Attendance::getRole).toArray()));
+            ps.setArray(4, con.createArrayOf("varchar", changed.stream().map(Attendance::getStatus).toArray()));
+            return ps;
+        });
+    }
+
+    /**
+     * Unique key of a row: user, course (0 when missing) and date.
+     */
+    private static List<Object> key(Attendance row) {
+        return Arrays.asList(row.getUserId(), row.getCourseId() != null ? row.getCourseId() : Constants.ROLLUP_NO_COURSE, row.getDate());
+    }
+
+    /**
+     * Moves the upserted rows between their monthly summary rollup buckets: a replaced row is taken
+     * out of its bucket and the written row is added to its own. Changes that cancel out are skipped,
+     * so re-marking with the same status writes nothing. Runs in the caller's transaction.
+     *
+     * @param rows upserted rows
+     */
+    public void applyToRollup(List<Upserted> rows) {
+        Map<List<Object>, long[]> deltas = new LinkedHashMap<>();
+        for (Upserted row : rows) {
+            if (row.getPrevious() != null) {
+                addDelta(deltas, row.getPrevious(), -1);
+            }
+            addDelta(deltas, row.getCurrent(), 1);
+        }
+        deltas.values().removeIf(delta -> delta[0] == 0 && delta[1] == 0);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ROLLUP_DELTA_SQL, new ArrayList<>(deltas.entrySet()), Constants.ATTENDANCE_BATCH_SIZE, (ps, delta) -> {
+            List<Object> bucket = delta.getKey();
+            ps.setLong(1, (Long) bucket.get(0));
+            ps.setLong(2, (Long) bucket.get(1));
+            ps.setString(3, (String) bucket.get(2));
+            ps.setDate(4, Date.valueOf((LocalDate) bucket.get(3)));
+            ps.setLong(5, delta.getValue()[0]);
+            ps.setLong(6, delta.getValue()[1]);
+        });
+    }
+
+    private void addDelta(Map<List<Object>, long[]> deltas, Attendance attendance, int sign) {
+        List<Object> bucket = Arrays.asList(
+                attendance.getUserId(),
+                attendance.getCourseId() != null ? attendance.getCourseId() : Constants.ROLLUP_NO_COURSE,
+                attendance.getRole() != null ? attendance.getRole() : Constants.ROLLUP_NO_ROLE,
+                attendance.getDate().withDayOfMonth(1));
+        long[] delta = deltas.computeIfAbsent(bucket, key -> new long[2]);
+        delta[0] += sign;
+        delta[1] += Constants.STATUS_PRESENT.equals(attendance.getStatus()) ? sign : 0;
+    }
+
+    /**
+     * An attendance row as written by an upsert, with the row it replaced.
+     */
+    public static class Upserted {
+
+        private final Attendance current;
+        private final Attendance previous;
+
+        public Upserted(Attendance current, Attendance previous) {
+            this.current = current;
+            this.previous = previous;
+        }
+
+        /**
+         * @return the row as written
+         */
+        public Attendance getCurrent() { return current; }
+
+        /**
+         * @return the row as it was before the write, or null if the row is new
+         */
+        public Attendance getPrevious() { return previous; }
+    }
+}
@@ -0,0 +1,156 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC repository for the monthly range partitions of the attendance table.
+ * Partitions are named attendances_pYYYYMM and cover one calendar month each; rows outside every
+ * monthly partition go to attendances_default. All statements run in the caller's transaction.
+ */
+@Repository
+public class AttendancePartitionRepository {
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile(Pattern.quote(Constants.ATTENDANCE_PARTITION_PREFIX) + "\\d{6}");
+
+    private static final String STAGING_TABLE = Constants.ATTENDANCE_TABLE + "_partitioned";
+    private static final String MOVING_TABLE = Constants.ATTENDANCE_TABLE + "_moving";
+
+    /**
+     * Indexes of the attendance table: those declared on the Attendance entity, which Hibernate only
+     * creates with the table, the attendance indexes of db/indexes.sql and the unique key.
+     * Indexes on the partitioned table cascade to every partition.
+     */
+    private static final List<String> ATTENDANCE_INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_attendance_user_date ON " + Constants.ATTENDANCE_TABLE + " (user_id, date)",
+            "CREATE INDEX IF NOT EXISTS idx_attendance_user_course_date ON " + Constants.ATTENDANCE_TABLE + " (user_id, course_id, date)",
+            "CREATE INDEX IF NOT EXISTS idx_attendance_course_date ON " + Constants.ATTENDANCE_TABLE + " (course_id, date)",
+            "CREATE INDEX IF NOT EXISTS idx_attendance_date_summary ON " + Constants.ATTENDANCE_TABLE
+                    + " (date) INCLUDE (user_id, role, course_id, status)",
+            "CREATE INDEX IF NOT EXISTS brin_attendance_date ON " + Constants.ATTENDANCE_TABLE + " USING brin (date)",
+            AttendanceBatchRepository.CREATE_UNIQUE_KEY_SQL);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return true if the attendance table is partitioned
+     */
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_partitioned_table"
+                + " WHERE partrelid = to_regclass(?))", Boolean.class, Constants.ATTENDANCE_TABLE));
+    }
+
+    /**
+     * @return date of the oldest attendance record, or null if there is none
+     */
+    public LocalDate findFirstDate() {
+        return jdbcTemplate.queryForObject("SELECT MIN(date) FROM " + Constants.ATTENDANCE_TABLE, LocalDate.class);
+    }
+
+    /**
+     * Replaces the plain attendance table with a table partitioned by month holding the same rows.
+     * The rows are copied under an exclusive lock, so writers wait until the caller commits.
+     * IDs keep coming from the attendance sequence, which the copied column default refers to.
+     * The attendance indexes are recreated on the new table; db/indexes.sql is not rerun.
+     *
+     * @param months months to create a partition for; rows of other months go to the default partition
+     */
+    public void convertToPartitioned(List<YearMonth> months) {
+        jdbcTemplate.execute("LOCK TABLE " + Constants.ATTENDANCE_TABLE + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("CREATE TABLE " + STAGING_TABLE + " (LIKE " + Constants.ATTENDANCE_TABLE
+                + " INCLUDING DEFAULTS, CONSTRAINT " + STAGING_TABLE + "_pkey PRIMARY KEY (id, date))"
+                + " PARTITION BY RANGE (date)");
+        jdbcTemplate.execute("CREATE TABLE " + Constants.ATTENDANCE_DEFAULT_PARTITION + " PARTITION OF " + STAGING_TABLE + " DEFAULT");
+        months.forEach(month -> createPartitionOf(STAGING_TABLE, month));
+        jdbcTemplate.execute("INSERT INTO " + STAGING_TABLE + " SELECT * FROM " + Constants.ATTENDANCE_TABLE);
+
+        jdbcTemplate.execute("DROP TABLE " + Constants.ATTENDANCE_TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + STAGING_TABLE + " RENAME TO " + Constants.ATTENDANCE_TABLE);
+        jdbcTemplate.execute("ALTER TABLE " + Constants.ATTENDANCE_TABLE + " RENAME CONSTRAINT " + STAGING_TABLE + "_pkey TO "
+                + Constants.ATTENDANCE_TABLE + "_pkey");
+
+        ATTENDANCE_INDEXES.forEach(jdbcTemplate::execute);
+    }
+
+    /**
+     * @return months that have a partition attached to the attendance table
+     */
+    public TreeSet<YearMonth> findAttachedMonths() {
+        return toMonths(jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+                + " WHERE i.inhparent = to_regclass(?)", String.class, Constants.ATTENDANCE_TABLE));
+    }
+
+    /**
+     * @return months whose partition was moved to the archive schema
+     */
+    public TreeSet<YearMonth> findArchivedMonths() {
+        return toMonths(jdbcTemplate.queryForList("SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
+                + " WHERE n.nspname = ? AND c.relkind = 'r'", String.class, Constants.ATTENDANCE_ARCHIVE_SCHEMA));
+    }
+
+    /**
+     * Creates the partition of a month. Rows of that month already in the default partition
+     * are moved into it, since a partition cannot be created over rows the default partition holds.
+     *
+     * @param month month to create the partition for
+     */
+    public void createPartition(YearMonth month) {
+        String range = dateRange(month);
+        jdbcTemplate.execute("LOCK TABLE " + Constants.ATTENDANCE_DEFAULT_PARTITION + " IN EXCLUSIVE MODE");
+        jdbcTemplate.execute("CREATE TEMP TABLE " + MOVING_TABLE + " AS SELECT * FROM " + Constants.ATTENDANCE_DEFAULT_PARTITION
+                + " WHERE " + range);
+        jdbcTemplate.execute("DELETE FROM " + Constants.ATTENDANCE_DEFAULT_PARTITION + " WHERE " + range);
+        createPartitionOf(Constants.ATTENDANCE_TABLE, month);
+        jdbcTemplate.execute("INSERT INTO " + Constants.ATTENDANCE_TABLE + " SELECT * FROM " + MOVING_TABLE);
+        jdbcTemplate.execute("DROP TABLE " + MOVING_TABLE);
+    }
+
+    /**
+     * Detaches the partition of a month and moves it to the archive schema, where it stays
+     * queryable but is no longer scanned by attendance queries.
+     *
+     * @param month month whose partition to archive
+     */
+    public void archivePartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute("CREATE SCHEMA IF NOT EXISTS " + Constants.ATTENDANCE_ARCHIVE_SCHEMA);
+        jdbcTemplate.execute("ALTER TABLE " + Constants.ATTENDANCE_TABLE + " DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + Constants.ATTENDANCE_ARCHIVE_SCHEMA);
+    }
+
+    /**
+     * @param month partition month
+     * @return name of the partition of the month
+     */
+    public static String partitionName(YearMonth month) {
+        return Constants.ATTENDANCE_PARTITION_PREFIX + month.format(MONTH_SUFFIX);
+    }
+
+    private void createPartitionOf(String table, YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE " + partitionName(month) + " PARTITION OF " + table
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    private static String dateRange(YearMonth month) {
+        return "date >= '" + month.atDay(1) + "' AND date < '" + month.plusMonths(1).atDay(1) + "'";
+    }
+
+    private static TreeSet<YearMonth> toMonths(List<String> tableNames) {
+        return tableNames.stream()
+                .filter(name -> PARTITION_NAME.matcher(name).matches())
+                .map(name -> YearMonth.parse(name.substring(Constants.ATTENDANCE_PARTITION_PREFIX.length()), MONTH_SUFFIX))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
@@ -1,22 +1,36 @@
 package com.qslabs.sms.repository;
 
+import com.qslabs.sms.dto.AttendanceDTO;
 import com.qslabs.sms.model.Attendance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 
 // TODO Create two methods - with custom query - I should create a query and pass data
 /**
  * Repository interface for Attendance entity.
  * Provides built-in CRUD operations and custom query methods.
+ * When the attendance table is partitioned by month, lookups bounded by a date or date range
+ * only scan the partitions of those months; lookups without one scan every attached month.
+ * Listings select AttendanceDTO directly instead of loading managed entities.
  */
 @Repository
-public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
+public interface AttendanceRepository extends JpaRepository<Attendance, Long>, JpaSpecificationExecutor<Attendance>, AttendanceRepositoryCustom, KeysetRepository<AttendanceDTO> {
+
+    String SELECT_DTO = "SELECT new com.qslabs.sms.dto.AttendanceDTO(a.id, a.userId, a.role, a.courseId, a.date, a.status) FROM Attendance a";
+
     /**
      * Finds attendance records for a user between two dates.
      *
@@ -25,21 +39,25 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
      * @param endDate   end date for filtering
      * @return List of matching attendance records
      */
-    List<Attendance> findByUserIdAndDateBetween(Long studentId, LocalDate startDate, LocalDate endDate);
+    @Query(SELECT_DTO + " WHERE a.userId = :userId AND a.date BETWEEN :startDate AND :endDate")
+    List<AttendanceDTO> findDtosByUserIdAndDateBetween(@Param("userId") Long studentId, @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
     /**
      * Finds all attendance records for a specific user.
      *
      * @param userId user ID
      * @return List of attendance records
      */
-    List<Attendance> findByUserId(Long userId);
+    @Query(SELECT_DTO + " WHERE a.userId = :userId")
+    List<AttendanceDTO> findDtosByUserId(@Param("userId") Long userId);
     /**
      * Finds all attendance records for a specific course.
      *
      * @param courseId course ID
      * @return List of attendance records
      */
-    List<Attendance> findByCourseId(Long courseId);
+    @Query(SELECT_DTO + " WHERE a.courseId = :courseId")
+    List<AttendanceDTO> findDtosByCourseId(@Param("courseId") Long courseId);
     /**
      * Finds attendance records by both user and course.
      *
@@ -47,18 +65,46 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
      * @param courseId course ID
      * @return List of attendance records
      */
-    List<Attendance> findByUserIdAndCourseId(Long userId, Long courseId);
+    @Query(SELECT_DTO + " WHERE a.userId = :userId AND a.courseId = :courseId")
+    List<AttendanceDTO> findDtosByUserIdAndCourseId(@Param("userId") Long userId, @Param("courseId") Long courseId);
+
+    /**
+     * Checks whether another record exists for the same user, course and date.
+     *
+     * @param userId   user ID
+     * @param courseId course ID, or null for attendance without a course
+     * @param date     attendance date
+     * @param id       ID of the record to exclude
+     * @return true if such a record exists
+     */
+    boolean existsByUserIdAndCourseIdAndDateAndIdNot(Long userId, Long courseId, LocalDate date, Long id);
+
+    /**
+     * Finds an attendance record and locks its row until the transaction ends,
+     * so concurrent writes to the record apply their rollup deltas one after the other.
+     *
+     * @param id the attendance record ID
+     * @return the locked record, if it exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Attendance a WHERE a.id = :id")
+    Optional<Attendance> findForUpdateById(@Param("id") Long id);
+
+    /**
+     * Finds a page of attendance records as DTOs.
+     *
+     * @param pageable pagination and sorting information
+     * @return Page of attendance records
+     */
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(a) FROM Attendance a")
+    Page<AttendanceDTO> findAllDtos(Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE a.id > :id")
+    Slice<AttendanceDTO> findByIdGreaterThan(@Param("id") Long id, Pageable pageable);
 
-    @Query("""
-    SELECT a.userId, a.role, a.courseId,
-           COUNT(a) AS totalCount,
-           SUM(CASE WHEN a.status = 'PRESENT' THEN 1 ELSE 0 END) AS presentCount
-    FROM Attendance a
-    WHERE a.date BETWEEN :fromDate AND :toDate
-      AND (:courseId IS NULL OR a.courseId = :courseId)
-      AND (:role IS NULL OR a.role = :role)
-    GROUP BY a.userId, a.role, a.courseId
-""")
-    List<Object[]> getRawAttendanceSummary(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate, @Param("courseId") Long courseId, @Param("role") String role);
+    @Override
+    @Query(SELECT_DTO + " WHERE a.id < :id")
+    Slice<AttendanceDTO> findByIdLessThan(@Param("id") Long id, Pageable pageable);
 
 }
@@ -0,0 +1,20 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.model.Attendance;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Custom attendance queries built with the Criteria API.
+ */
+public interface AttendanceRepositoryCustom {
+
+    /**
+     * Aggregates the attendance records matching a specification per user, role and course.
+     *
+     * @param specification criteria the records must match
+     * @return rows of userId, role, courseId, total count and present count
+     */
+    List<Object[]> summarize(Specification<Attendance> specification);
+}
@@ -0,0 +1,42 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.model.Attendance;
+import com.qslabs.sms.util.Constants;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Criteria API implementation of {@link AttendanceRepositoryCustom}.
+ */
+public class AttendanceRepositoryCustomImpl implements AttendanceRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Object[]> summarize(Specification<Attendance> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Attendance> root = query.from(Attendance.class);
+
+        Expression<Long> present = cb.sum(cb.<Long>selectCase()
+                .when(cb.equal(root.get("status"), Constants.STATUS_PRESENT), 1L)
+                .otherwise(0L));
+        query.multiselect(root.get("userId"), root.get("role"), root.get("courseId"), cb.count(root), present);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(root.get("userId"), root.get("role"), root.get("courseId"));
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -0,0 +1,119 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.model.AttendanceRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for the AttendanceRollup entity.
+ * Applies incremental changes to the monthly buckets and reads them back as summary rows.
+ */
+@Repository
+public interface AttendanceRollupRepository extends JpaRepository<AttendanceRollup, Long> {
+
+    /**
+     * Adds the given deltas to a bucket, creating it when it does not exist yet.
+     *
+     * @param userId       user ID
+     * @param courseId     course ID, 0 when the attendance has none
+     * @param role         role, empty when the attendance has none
+     * @param month        first day of the bucket month
+     * @param totalDelta   change of the total count
+     * @param presentDelta change of the present count
+     */
+    @Modifying
+    @Query(value = """
+    INSERT INTO attendance_rollups (user_id, course_id, role, bucket_month, total_count, present_count)
+    VALUES (:userId, :courseId, :role, :month, :totalDelta, :presentDelta)
+    ON CONFLICT (user_id, course_id, role, bucket_month) DO UPDATE
+    SET total_count = attendance_rollups.total_count + EXCLUDED.total_count,
+        present_count = attendance_rollups.present_count + EXCLUDED.present_count
+""", nativeQuery = true)
+    void applyDelta(@Param("userId") Long userId, @Param("courseId") Long courseId, @Param("role") String role,
+                    @Param("month") LocalDate month, @Param("totalDelta") long totalDelta, @Param("presentDelta") long presentDelta);
+
+    /**
+     * Sums the buckets of the months between two month starts, in the same shape as
+     * {@link AttendanceRepositoryCustom#summarize}.
+     *
+     * @param fromMonth first day of the first month
+     * @param toMonth   first day of the last month
+     * @param courseId  optional course filter
+     * @param role      optional role filter
+     * @return rows of userId, role, courseId, total count and present count
+     */
+    @Query("""
+    SELECT r.userId, r.role, r.courseId, SUM(r.totalCount), SUM(r.presentCount)
+    FROM AttendanceRollup r
+    WHERE r.month BETWEEN :fromMonth AND :toMonth
+      AND (:courseId IS NULL OR r.courseId = :courseId)
+      AND (:role IS NULL OR r.role = :role)
+    GROUP BY r.userId, r.role, r.courseId
+    HAVING SUM(r.totalCount) > 0
+""")
+    List<Object[]> getRollupSummary(@Param("fromMonth") LocalDate fromMonth, @Param("toMonth") LocalDate toMonth,
+                                    @Param("courseId") Long courseId, @Param("role") String role);
+
+    /**
+     * Locks the rollup table so concurrent incremental updates wait until a rebuild commits.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE attendance_rollups IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    /**
+     * Removes the buckets from a month on ahead of a rebuild.
+     *
+     * @param fromMonth first day of the first month to remove
+     */
+    @Modifying
+    @Query(value = "DELETE FROM attendance_rollups WHERE bucket_month >= :fromMonth", nativeQuery = true)
+    void deleteBucketsFrom(@Param("fromMonth") LocalDate fromMonth);
+
+    /**
+     * Recomputes the buckets from a month on from the attendance table.
+     *
+     * @param fromMonth first day of the first month to recompute
+     * @return number of buckets written
+     */
+    @Modifying
+    @Query(value = """
+    INSERT INTO attendance_rollups (user_id, course_id, role, bucket_month, total_count, present_count)
+    SELECT a.user_id, COALESCE(a.course_id, 0), COALESCE(a.role, ''), CAST(date_trunc('month', a.date) AS date),
+           COUNT(*), SUM(CASE WHEN a.status = 'PRESENT' THEN 1 ELSE 0 END)
+    FROM attendances a
+    WHERE a.date >= :fromMonth
+    GROUP BY a.user_id, COALESCE(a.course_id, 0), COALESCE(a.role, ''), CAST(date_trunc('month', a.date) AS date)
+""", nativeQuery = true)
+    int insertFromAttendance(@Param("fromMonth") LocalDate fromMonth);
+
+    /**
+     * Counts buckets from a month on whose stored counts differ from the attendance table.
+     *
+     * @param fromMonth first day of the first month to compare
+     * @return number of mismatching buckets
+     */
+    @Query(value = """
+    SELECT COUNT(*) FROM (
+        SELECT a.user_id, COALESCE(a.course_id, 0) AS course_id, COALESCE(a.role, '') AS role,
+               CAST(date_trunc('month', a.date) AS date) AS bucket_month,
+               COUNT(*) AS total_count, SUM(CASE WHEN a.status = 'PRESENT' THEN 1 ELSE 0 END) AS present_count
+        FROM attendances a
+        WHERE a.date >= :fromMonth
+        GROUP BY 1, 2, 3, 4
+    ) expected
+    FULL OUTER JOIN (SELECT * FROM attendance_rollups
+                     WHERE bucket_month >= :fromMonth AND (total_count <> 0 OR present_count <> 0)) actual
+      ON actual.user_id = expected.user_id AND actual.course_id = expected.course_id
+     AND actual.role = expected.role AND actual.bucket_month = expected.bucket_month
+    WHERE expected.user_id IS NULL OR actual.user_id IS NULL
+       OR actual.total_count <> expected.total_count OR actual.present_count <> expected.present_count
+""", nativeQuery = true)
+    long countMismatches(@Param("fromMonth") LocalDate fromMonth);
+}
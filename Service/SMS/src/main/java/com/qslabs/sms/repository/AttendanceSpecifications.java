@@ -0,0 +1,51 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.dto.AttendanceFilterDTO;
+import com.qslabs.sms.model.Attendance;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specifications for querying attendance records.
+ * Only the criteria that are actually supplied become predicates, so each combination of
+ * filters gets its own SQL and the planner can use the matching index.
+ */
+public final class AttendanceSpecifications {
+
+    private AttendanceSpecifications() {
+    }
+
+    /**
+     * Builds a specification matching all criteria set on the filter.
+     *
+     * @param filter attendance filter
+     * @return specification restricted to the supplied criteria
+     */
+    public static Specification<Attendance> matching(AttendanceFilterDTO filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("date"), filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("date"), filter.getTo()));
+            }
+            if (filter.getCourseId() != null) {
+                predicates.add(cb.equal(root.get("courseId"), filter.getCourseId()));
+            }
+            if (filter.getRole() != null) {
+                predicates.add(cb.equal(root.get("role"), filter.getRole()));
+            }
+            if (filter.getUserIds() != null && !filter.getUserIds().isEmpty()) {
+                predicates.add(root.get("userId").in(filter.getUserIds()));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
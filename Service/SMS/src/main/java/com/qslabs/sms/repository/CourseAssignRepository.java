@@ -1,18 +1,85 @@
 package com.qslabs.sms.repository;
 
+import com.qslabs.sms.dto.CourseAssignDTO;
 import com.qslabs.sms.model.CourseAssign;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repository interface for the CourseAssign entity.
  * Extends JpaRepository to provide basic CRUD operations.
+ * Listings select CourseAssignDTO directly instead of loading managed entities.
  */
 @Repository
-public interface CourseAssignRepository extends JpaRepository<CourseAssign, Long> {
+public interface CourseAssignRepository extends JpaRepository<CourseAssign, Long>, KeysetRepository<CourseAssignDTO> {
+
+    String SELECT_DTO = "SELECT new com.qslabs.sms.dto.CourseAssignDTO(ca.id, ca.courseId, ca.userId, ca.role) FROM CourseAssign ca";
 
     @Query("SELECT COUNT(DISTINCT ca.courseId) FROM CourseAssign ca WHERE ca.userId = :userId")
     Long getAssignedCourseCountByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds all assignments for the given courses.
+     *
+     * @param courseIds IDs of the courses
+     * @return List of course assignments
+     */
+    @Query(SELECT_DTO + " WHERE ca.courseId IN :courseIds")
+    List<CourseAssignDTO> findDtosByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * Finds all assignments of a user.
+     *
+     * @param userId ID of the user
+     * @return List of course assignments ordered by ID
+     */
+    @Query(SELECT_DTO + " WHERE ca.userId = :userId ORDER BY ca.id")
+    List<CourseAssignDTO> findDtosByUserId(@Param("userId") Long userId);
+
+    /**
+     * Finds the assignments of a course, one page at a time.
+     *
+     * @param courseId ID of the course
+     * @param pageable pagination and sorting information
+     * @return Page of course assignments
+     */
+    @Query(value = SELECT_DTO + " WHERE ca.courseId = :courseId",
+            countQuery = "SELECT COUNT(ca) FROM CourseAssign ca WHERE ca.courseId = :courseId")
+    Page<CourseAssignDTO> findDtosByCourseId(@Param("courseId") Long courseId, Pageable pageable);
+
+    /**
+     * Finds the assignments of a course with an ID greater than the given one.
+     *
+     * @param courseId ID of the course
+     * @param id       last ID of the previous page
+     * @param pageable page size and ascending ID sort
+     * @return Slice of course assignments
+     */
+    @Query(SELECT_DTO + " WHERE ca.courseId = :courseId AND ca.id > :id")
+    Slice<CourseAssignDTO> findDtosByCourseIdAndIdGreaterThan(@Param("courseId") Long courseId, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Finds a page of assignments as DTOs.
+     *
+     * @param pageable pagination and sorting information
+     * @return Page of course assignments
+     */
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(ca) FROM CourseAssign ca")
+    Page<CourseAssignDTO> findAllDtos(Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE ca.id > :id")
+    Slice<CourseAssignDTO> findByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE ca.id < :id")
+    Slice<CourseAssignDTO> findByIdLessThan(@Param("id") Long id, Pageable pageable);
 }
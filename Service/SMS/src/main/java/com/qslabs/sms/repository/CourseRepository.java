@@ -1,14 +1,39 @@
 package com.qslabs.sms.repository;
 
+import com.qslabs.sms.dto.CourseDTO;
 import com.qslabs.sms.model.Course;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repository interface for the Course entity.
  * Provides CRUD operations and supports custom queries if needed.
+ * Listings select CourseDTO directly instead of loading managed entities.
  */
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
-}
+public interface CourseRepository extends JpaRepository<Course, Long>, KeysetRepository<CourseDTO> {
+
+    String SELECT_DTO = "SELECT new com.qslabs.sms.dto.CourseDTO(c.id, c.code, c.name, c.credits, c.duration, c.description) FROM Course c";
+
+    /**
+     * Retrieves a page of courses as DTOs.
+     *
+     * @param pageable pagination and sorting information
+     * @return page of CourseDTOs
+     */
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseDTO> findAllDtos(Pageable pageable);
 
+    @Override
+    @Query(SELECT_DTO + " WHERE c.id > :id")
+    Slice<CourseDTO> findByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE c.id < :id")
+    Slice<CourseDTO> findByIdLessThan(@Param("id") Long id, Pageable pageable);
+}
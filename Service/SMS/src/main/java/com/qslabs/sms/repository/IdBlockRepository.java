@@ -0,0 +1,61 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC repository that reserves IDs from the pooled entity sequences for plain SQL inserts.
+ * Each sequence call reserves the block of Constants.ID_ALLOCATION_SIZE IDs starting at its value,
+ * the same way Hibernate does, so SQL inserts and Hibernate never hand out the same ID.
+ * IDs of a block left over by one call are handed out by the next, so small inserts do not
+ * use up a whole block each.
+ */
+@Repository
+public class IdBlockRepository {
+
+    private static final String RESERVE_SQL = "SELECT nextval(?::regclass) FROM generate_series(1, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Next unused ID and end (exclusive) of the open block of each sequence.
+     */
+    private final Map<String, long[]> openBlocks = new HashMap<>();
+
+    /**
+     * Reserves IDs for a number of new rows, in at most one round trip.
+     *
+     * @param sequence name of the entity sequence
+     * @param count    number of IDs needed
+     * @return the reserved IDs
+     */
+    public synchronized Long[] reserve(String sequence, int count) {
+        Long[] ids = new Long[count];
+        long[] block = openBlocks.computeIfAbsent(sequence, name -> new long[2]);
+        int taken = 0;
+        while (taken < count && block[0] < block[1]) {
+            ids[taken++] = block[0]++;
+        }
+        if (taken == count) {
+            return ids;
+        }
+        int blocks = (count - taken + Constants.ID_ALLOCATION_SIZE - 1) / Constants.ID_ALLOCATION_SIZE;
+        for (long start : jdbcTemplate.queryForList(RESERVE_SQL, Long.class, sequence, blocks)) {
+            long end = start + Constants.ID_ALLOCATION_SIZE;
+            long next = start;
+            while (taken < count && next < end) {
+                ids[taken++] = next++;
+            }
+            block[0] = next;
+            block[1] = end;
+        }
+        return ids;
+    }
+}
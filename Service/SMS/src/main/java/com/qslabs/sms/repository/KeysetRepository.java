@@ -0,0 +1,36 @@
+package com.qslabs.sms.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Base repository for keyset (seek) pagination on the primary key.
+ * Each query seeks past the last ID of the previous page, so deep pages cost the same as
+ * the first one and no COUNT query is run.
+ * Repositories declare both methods again with a query selecting their DTO, so listings read
+ * the columns they return without loading managed entities.
+ *
+ * @param <T> row type, which must have a Long {@code id}
+ */
+@NoRepositoryBean
+public interface KeysetRepository<T> {
+
+    /**
+     * Retrieves the rows with an ID greater than the given one.
+     *
+     * @param id       last ID of the previous page
+     * @param pageable page size and ascending ID sort
+     * @return slice of rows
+     */
+    Slice<T> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Retrieves the rows with an ID less than the given one.
+     *
+     * @param id       last ID of the previous page
+     * @param pageable page size and descending ID sort
+     * @return slice of rows
+     */
+    Slice<T> findByIdLessThan(Long id, Pageable pageable);
+}
@@ -0,0 +1,92 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.model.Student;
+import com.qslabs.sms.model.User;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC repository for bulk user and student imports.
+ * IDs are reserved from the entity sequences in blocks. Users are inserted with one statement per
+ * chunk, which reports the usernames that were taken; students are then inserted in JDBC batches.
+ * Runs in the caller's transaction.
+ */
+@Repository
+public class StudentImportRepository {
+
+    private static final String INSERT_USERS_SQL = "INSERT INTO " + Constants.USER_TABLE + " (id, username, email, password, role)"
+            + " SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[])"
+            + " ON CONFLICT (username) DO NOTHING"
+            + " RETURNING id, username";
+
+    private static final String INSERT_STUDENT_SQL = "INSERT INTO " + Constants.STUDENT_TABLE
+            + " (student_id, user_id, first_name, last_name, date_of_birth, gender, address, contact_number, nationality)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdBlockRepository idBlockRepository;
+
+    /**
+     * Inserts users whose username is not taken yet.
+     *
+     * @param users users with their password already hashed
+     * @return generated ID by username; users whose username was taken are missing
+     */
+    public Map<String, Long> insertUsers(List<User> users) {
+        Map<String, Long> ids = new HashMap<>();
+        for (int from = 0; from < users.size(); from += Constants.IMPORT_BATCH_SIZE) {
+            List<User> chunk = users.subList(from, Math.min(from + Constants.IMPORT_BATCH_SIZE, users.size()));
+            Long[] chunkIds = idBlockRepository.reserve(Constants.USER_SEQUENCE, chunk.size());
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_USERS_SQL);
+                ps.setArray(1, con.createArrayOf("bigint", chunkIds));
+                ps.setArray(2, con.createArrayOf("varchar", chunk.stream().map(User::getUsername).toArray()));
+                ps.setArray(3, con.createArrayOf("varchar", chunk.stream().map(User::getEmail).toArray()));
+                ps.setArray(4, con.createArrayOf("varchar", chunk.stream().map(User::getPassword).toArray()));
+                ps.setArray(5, con.createArrayOf("varchar", chunk.stream().map(User::getRole).toArray()));
+                return ps;
+            }, (RowCallbackHandler) rs -> ids.put(rs.getString(2), rs.getLong(1)));
+        }
+        return ids;
+    }
+
+    /**
+     * Inserts student profiles in JDBC batches and sets their IDs.
+     *
+     * @param students students linked to their users by userId
+     */
+    public void insertStudents(List<Student> students) {
+        Long[] ids = idBlockRepository.reserve(Constants.STUDENT_SEQUENCE, students.size());
+        for (int i = 0; i < students.size(); i++) {
+            students.get(i).setStudentId(ids[i]);
+        }
+        jdbcTemplate.batchUpdate(INSERT_STUDENT_SQL, students, Constants.IMPORT_BATCH_SIZE, (ps, student) -> {
+            ps.setLong(1, student.getStudentId());
+            ps.setLong(2, student.getUserId());
+            ps.setString(3, student.getFirstName());
+            ps.setString(4, student.getLastName());
+            if (student.getDateOfBirth() != null) {
+                ps.setDate(5, Date.valueOf(student.getDateOfBirth()));
+            } else {
+                ps.setNull(5, Types.DATE);
+            }
+            ps.setString(6, student.getGender());
+            ps.setString(7, student.getAddress());
+            ps.setString(8, student.getContactNumber());
+            ps.setString(9, student.getNationality());
+        });
+    }
+}
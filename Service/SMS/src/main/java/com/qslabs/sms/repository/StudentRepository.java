@@ -1,19 +1,27 @@
 package com.qslabs.sms.repository;
 
+import com.qslabs.sms.dto.StudentDTO;
 import com.qslabs.sms.model.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for the Student entity.
  * Extends JpaRepository to provide CRUD operations and custom queries.
+ * Listings select StudentDTO directly instead of loading managed entities.
  */
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
+    String SELECT_DTO = "SELECT new com.qslabs.sms.dto.StudentDTO(s.studentId, s.userId, s.firstName, s.lastName, s.dateOfBirth,"
+            + " s.gender, s.address, s.contactNumber, s.nationality) FROM Student s";
+
     // Custom query to find a student by contact number
     /**
      * Custom query to find a student by their contact number.
@@ -25,4 +33,42 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     @Query("SELECT COUNT(s) FROM Student s")
     Long getStudentCount();
+
+    /**
+     * Keyset page of students ordered by ID.
+     * Only the first page of the pageable is used, as a row limit.
+     *
+     * @param afterId  ID of the last student on the previous page
+     * @param pageable row limit
+     * @return students with an ID greater than afterId
+     */
+    @Query(SELECT_DTO + " WHERE s.studentId > :afterId ORDER BY s.studentId")
+    List<StudentDTO> findDtosAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * First keyset page of students ordered by last name, then ID.
+     *
+     * @param pageable row limit
+     * @return first students by last name
+     */
+    @Query(SELECT_DTO + " ORDER BY COALESCE(s.lastName, ''), s.studentId")
+    List<StudentDTO> findFirstPageByLastName(Pageable pageable);
+
+    /**
+     * Keyset page of students ordered by last name, then ID.
+     * The ordering expression matches idx_student_last_name_key (db/indexes.sql); the redundant
+     * lower bound on the last name lets the page start with an index range scan at the cursor.
+     *
+     * @param lastName last name of the last student on the previous page
+     * @param afterId  ID of the last student on the previous page
+     * @param pageable row limit
+     * @return students sorting after the given (lastName, id) key
+     */
+    @Query(SELECT_DTO + """
+     WHERE COALESCE(s.lastName, '') >= :lastName
+       AND (COALESCE(s.lastName, '') > :lastName
+         OR (COALESCE(s.lastName, '') = :lastName AND s.studentId > :afterId))
+    ORDER BY COALESCE(s.lastName, ''), s.studentId
+""")
+    List<StudentDTO> findNextPageByLastName(@Param("lastName") String lastName, @Param("afterId") Long afterId, Pageable pageable);
 }
@@ -1,10 +1,17 @@
 package com.qslabs.sms.repository;
 
+import com.qslabs.sms.dto.TeacherDTO;
 import com.qslabs.sms.model.Teacher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 // Todo
@@ -12,9 +19,14 @@ import java.util.Optional;
 /**
  * Repository interface for the Teacher entity.
  * Extends JpaRepository to provide CRUD and custom data access methods.
+ * Listings select TeacherDTO directly instead of loading managed entities.
  */
 @Repository
-public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+public interface TeacherRepository extends JpaRepository<Teacher, Long>, KeysetRepository<TeacherDTO> {
+
+    String SELECT_DTO = "SELECT new com.qslabs.sms.dto.TeacherDTO(t.id, t.userId, t.name, t.phone, t.dob, t.gender, t.address,"
+            + " t.joiningDate, t.status, t.role) FROM Teacher t";
+
     /**
      * Find a teacher by their associated user ID.
      *
@@ -23,6 +35,32 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
      */
     Optional<Teacher> findByUserId(Long userId);
 
+    /**
+     * Find all teachers linked to the given user IDs.
+     *
+     * @param userIds IDs from the User table
+     * @return List of matching teachers
+     */
+    @Query(SELECT_DTO + " WHERE t.userId IN :userIds")
+    List<TeacherDTO> findDtosByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Retrieves a page of teachers as DTOs.
+     *
+     * @param pageable pagination and sorting information
+     * @return page of TeacherDTOs
+     */
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(t) FROM Teacher t")
+    Page<TeacherDTO> findAllDtos(Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE t.id > :id")
+    Slice<TeacherDTO> findByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE t.id < :id")
+    Slice<TeacherDTO> findByIdLessThan(@Param("id") Long id, Pageable pageable);
+
     @Query("SELECT COUNT(t) FROM Teacher t")
     Long getTeacherCount();
 }
@@ -1,20 +1,30 @@
 package com.qslabs.sms.repository;
 
+import com.qslabs.sms.dto.TimeTableDTO;
 import com.qslabs.sms.model.TimeTable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for the TimeTable entity.
  * Provides standard CRUD operations and custom query methods.
+ * Listings select TimeTableDTO directly instead of loading managed entities.
  */
 @Repository
-public interface TimeTableRepository extends JpaRepository<TimeTable, Long> {
+public interface TimeTableRepository extends JpaRepository<TimeTable, Long>, KeysetRepository<TimeTableDTO> {
+
+    String SELECT_DTO = "SELECT new com.qslabs.sms.dto.TimeTableDTO(t.id, t.date, t.startTime, t.endTime, t.teacherId, t.courseId,"
+            + " t.classroom) FROM TimeTable t";
+
     /**
      * Retrieves all timetable entries for a given teacher.
      *
@@ -31,6 +41,45 @@ public interface TimeTableRepository extends JpaRepository<TimeTable, Long> {
      */
     List<TimeTable> findByCourseId(Long courseId);
 
+    /**
+     * Retrieves timetable entries for a given date, ordered by start time.
+     *
+     * @param date     date of the classes
+     * @param pageable row limit
+     * @return List of TimeTableDTOs
+     */
+    @Query(SELECT_DTO + " WHERE t.date = :date ORDER BY t.startTime")
+    List<TimeTableDTO> findDtosByDate(@Param("date") LocalDate date, Pageable pageable);
+
+    /**
+     * Retrieves the timetable entries of the given courses within a date window.
+     *
+     * @param courseIds IDs of the courses
+     * @param from      first date of the window
+     * @param to        last date of the window
+     * @return List of TimeTableDTOs ordered by date and start time
+     */
+    @Query(SELECT_DTO + " WHERE t.courseId IN :courseIds AND t.date BETWEEN :from AND :to ORDER BY t.date, t.startTime")
+    List<TimeTableDTO> findDtosByCourseIdsAndDateBetween(@Param("courseIds") Collection<Long> courseIds, @Param("from") LocalDate from,
+                                                         @Param("to") LocalDate to);
+
+    /**
+     * Retrieves a page of timetable entries as DTOs.
+     *
+     * @param pageable pagination and sorting information
+     * @return page of TimeTableDTOs
+     */
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(t) FROM TimeTable t")
+    Page<TimeTableDTO> findAllDtos(Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE t.id > :id")
+    Slice<TimeTableDTO> findByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE t.id < :id")
+    Slice<TimeTableDTO> findByIdLessThan(@Param("id") Long id, Pageable pageable);
+
     @Query("SELECT COUNT(t) FROM TimeTable t WHERE t.date = :today")
     Long getTodayClassCount(@Param("today") LocalDate today);
 }
@@ -1,18 +1,28 @@
 package com.qslabs.sms.repository;
 
+import com.qslabs.sms.dto.UserResponseDTO;
 import com.qslabs.sms.model.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for the User entity.
  * Provides standard CRUD operations and user-specific query methods.
+ * Listings select UserResponseDTO directly, so password hashes are never read for them.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, KeysetRepository<UserResponseDTO> {
+
+    String SELECT_DTO = "SELECT new com.qslabs.sms.dto.UserResponseDTO(u.id, u.username, u.email, u.role) FROM User u";
 
     /**
      * Find a user by username.
@@ -30,4 +40,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return Optional containing the User if credentials match
      */
     Optional<User> findByUsernameAndPassword(String username, String password);
+
+    /**
+     * Find which of the given usernames are already taken.
+     *
+     * @param usernames usernames to check
+     * @return the usernames that belong to an existing user
+     */
+    @Query("SELECT u.username FROM User u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Find a page of users as response DTOs.
+     *
+     * @param pageable pagination and sorting information
+     * @return page of UserResponseDTOs
+     */
+    @Query(value = SELECT_DTO, countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserResponseDTO> findAllDtos(Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE u.id > :id")
+    Slice<UserResponseDTO> findByIdGreaterThan(@Param("id") Long id, Pageable pageable);
+
+    @Override
+    @Query(SELECT_DTO + " WHERE u.id < :id")
+    Slice<UserResponseDTO> findByIdLessThan(@Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,15 @@
+package com.qslabs.sms.service;
+
+/**
+ * Service interface for checking who may read per-user data.
+ */
+public interface AccessService {
+
+    /**
+     * Checks that the current user is the given user or an administrator.
+     *
+     * @param userId ID of the user whose data is requested
+     * @throws com.qslabs.sms.exception.ForbiddenException if the current user is someone else
+     */
+    void requireSelfOrAdmin(Long userId);
+}
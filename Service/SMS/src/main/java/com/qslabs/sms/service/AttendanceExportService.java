@@ -0,0 +1,61 @@
+package com.qslabs.sms.service;
+
+import com.qslabs.sms.dto.AttendanceFilterDTO;
+import com.qslabs.sms.exception.ValidationException;
+import com.qslabs.sms.util.Constants;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting attendance records as a stream.
+ */
+public interface AttendanceExportService {
+
+    /**
+     * Supported export formats.
+     */
+    enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        /**
+         * Resolves a format from its request parameter value.
+         *
+         * @param value format name, case-insensitive
+         * @return matching format
+         * @throws ValidationException if the format is not supported
+         */
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ValidationException(Constants.INVALID_EXPORT_FORMAT);
+        }
+    }
+
+    /**
+     * Writes all attendance records matching the filter to the stream, ordered by date and ID.
+     * Rows are read through a database cursor and written as they arrive.
+     *
+     * @param filter course, role and date range filter; unset criteria are ignored
+     * @param format output format
+     * @param gzip   whether to gzip the output
+     * @param out    stream to write to
+     * @throws IOException if writing to the stream fails
+     */
+    void export(AttendanceFilterDTO filter, Format format, boolean gzip, OutputStream out) throws IOException;
+}
@@ -0,0 +1,38 @@
+package com.qslabs.sms.service;
+
+import com.qslabs.sms.dto.AttendanceStatsDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for the in-memory attendance index.
+ * Holds per-day presence bitsets of the current term for every user and course, so attendance
+ * statistics are answered without reading the attendance table.
+ * The index follows attendance writes through the attendance change events.
+ */
+public interface AttendanceIndexService {
+
+    /**
+     * Rebuilds the index from the attendance table for the current term.
+     *
+     * @return number of attendance records loaded
+     */
+    long reload();
+
+    /**
+     * Retrieves the attendance statistics of a user in a course.
+     *
+     * @param userId   ID of the user
+     * @param courseId ID of the course
+     * @return totals, percentage, streaks and monthly counts for the current term
+     */
+    AttendanceStatsDTO getStats(Long userId, Long courseId);
+
+    /**
+     * Retrieves the attendance statistics of a user in each of their courses.
+     *
+     * @param userId ID of the user
+     * @return statistics per course for the current term
+     */
+    List<AttendanceStatsDTO> getStatsByUser(Long userId);
+}
@@ -0,0 +1,35 @@
+package com.qslabs.sms.service;
+
+import com.qslabs.sms.dto.IngestStatusDTO;
+import com.qslabs.sms.dto.RollCallDTO;
+
+/**
+ * Service interface for write-behind attendance ingestion.
+ * Roll calls are appended to a durable queue and written to the database in batches
+ * by a background writer, so request latency does not depend on the database.
+ */
+public interface AttendanceIngestService {
+
+    /**
+     * Appends a roll call to the ingestion queue.
+     * When ingestion is disabled the roll call is written synchronously instead.
+     *
+     * @param rollCall roll call to write
+     * @return queue entry ID, or null when the roll call was written synchronously
+     */
+    String enqueue(RollCallDTO rollCall);
+
+    /**
+     * Writes all queued roll calls to the database before returning.
+     *
+     * @return queue state after the flush
+     */
+    IngestStatusDTO flush();
+
+    /**
+     * Returns the current state of the ingestion queue.
+     *
+     * @return queue state
+     */
+    IngestStatusDTO getStatus();
+}
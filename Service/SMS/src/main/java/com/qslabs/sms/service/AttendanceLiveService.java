@@ -0,0 +1,18 @@
+package com.qslabs.sms.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Service interface for the live attendance summary stream.
+ * Attendance writes of every node are coalesced into per-course deltas and pushed to all
+ * subscribers at most once per tick.
+ */
+public interface AttendanceLiveService {
+
+    /**
+     * Subscribes to the live per-course attendance deltas.
+     *
+     * @return emitter receiving an "attendance" event with the course deltas of each tick that had writes
+     */
+    SseEmitter subscribe();
+}
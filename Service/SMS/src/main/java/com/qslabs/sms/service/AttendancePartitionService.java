@@ -0,0 +1,47 @@
+package com.qslabs.sms.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Service interface for the monthly partitions of the attendance table.
+ * Converts the table to range partitions by month, keeps partitions ahead of the calendar and
+ * archives the partitions of closed years, so queries over the current term only scan its months.
+ */
+public interface AttendancePartitionService {
+
+    /**
+     * @return true if the attendance table is partitioned
+     */
+    boolean isPartitioned();
+
+    /**
+     * Converts the attendance table to monthly partitions, keeping all rows.
+     * Partitions are created from the month of the oldest record to the months kept ahead.
+     * Does nothing if the table is already partitioned.
+     *
+     * @return number of monthly partitions created
+     */
+    int partition();
+
+    /**
+     * Creates the missing partitions from the current month to the months kept ahead.
+     *
+     * @return months whose partition was created
+     */
+    List<YearMonth> createFuturePartitions();
+
+    /**
+     * Detaches the partitions of closed years and moves them to the archive schema.
+     * Their monthly summary rollup buckets are kept.
+     *
+     * @return months whose partition was archived
+     */
+    List<YearMonth> archiveClosedYears();
+
+    /**
+     * @return first day after the newest archived month; attendance before it is no longer in the attendance table
+     */
+    LocalDate getArchiveHorizon();
+}
@@ -0,0 +1,33 @@
+package com.qslabs.sms.service;
+
+import com.qslabs.sms.model.Attendance;
+
+/**
+ * Service interface for the monthly attendance summary rollup.
+ * Keeps the rollup buckets in step with attendance writes and repairs them when they drift.
+ */
+public interface AttendanceRollupService {
+
+    /**
+     * Adds or removes one attendance record from its monthly bucket.
+     * Must run in the transaction that writes the attendance record.
+     *
+     * @param attendance attendance record as stored
+     * @param sign       +1 when the record was added, -1 when it was removed
+     */
+    void record(Attendance attendance, int sign);
+
+    /**
+     * Recomputes the buckets of the months still in the attendance table; buckets of archived months are kept.
+     *
+     * @return number of buckets written
+     */
+    int rebuild();
+
+    /**
+     * Compares the buckets of the months still in the attendance table with the table.
+     *
+     * @return number of buckets that do not match
+     */
+    long verify();
+}
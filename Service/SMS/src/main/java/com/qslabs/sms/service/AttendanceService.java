@@ -1,7 +1,10 @@
 package com.qslabs.sms.service;
 
 import com.qslabs.sms.dto.AttendanceDTO;
+import com.qslabs.sms.dto.AttendanceFilterDTO;
 import com.qslabs.sms.dto.AttendanceSummaryDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
+import com.qslabs.sms.dto.RollCallDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -22,6 +25,29 @@ public interface AttendanceService {
      */
     AttendanceDTO markAttendance(AttendanceDTO attendanceDTO);
 
+    /**
+     * Marks attendance for a whole class session in one transaction.
+     *
+     * @param rollCall course, date and the status of each user
+     * @return number of attendance records written
+     */
+    int markRollCall(RollCallDTO rollCall);
+
+    /**
+     * Marks attendance for several class sessions in one transaction.
+     *
+     * @param rollCalls roll calls to write
+     * @return number of attendance records written
+     */
+    int markRollCalls(List<RollCallDTO> rollCalls);
+
+    /**
+     * Checks that a roll call can be written.
+     *
+     * @param rollCall roll call to check
+     */
+    void validateRollCall(RollCallDTO rollCall);
+
     /**
      * Retrieves a specific attendance record by its ID.
      *
@@ -83,5 +109,24 @@ public interface AttendanceService {
 
     Page<AttendanceDTO> getAllAttendance(Pageable pageable);
 
+    /**
+     * Retrieves all attendance records using keyset pagination on the ID, without an offset or count query.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of AttendanceDTOs with the cursor for the next page
+     */
+    CursorPageDTO<AttendanceDTO> getAllAttendance(int limit, String cursor, boolean ascending);
+
     List<AttendanceSummaryDTO> getAttendanceSummaryDTO(LocalDate fromDate, LocalDate toDate, Long courseId, String role);
+
+    /**
+     * Searches attendance records by any combination of course, role, users, status and date range.
+     *
+     * @param filter   search criteria; unset criteria are ignored
+     * @param pageable pagination and sorting information
+     * @return a page of matching AttendanceDTOs
+     */
+    Page<AttendanceDTO> searchAttendance(AttendanceFilterDTO filter, Pageable pageable);
 }
@@ -1,14 +1,45 @@
 package com.qslabs.sms.service;
 
 import com.qslabs.sms.dto.CourseAssignDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Service interface for handling course assignments to users (e.g., teachers or students).
  */
 public interface CourseAssignService {
 
+    /**
+     * Retrieves all assignments of a user.
+     *
+     * @param userId ID of the user
+     * @return list of CourseAssignDTOs ordered by ID
+     */
+    List<CourseAssignDTO> getCourseAssignsByUser(Long userId);
+
+    /**
+     * Retrieves the assignments of a course, one page at a time.
+     *
+     * @param courseId ID of the course
+     * @param pageable pagination and sorting information
+     * @return a page of CourseAssignDTOs
+     */
+    Page<CourseAssignDTO> getCourseAssignsByCourse(Long courseId, Pageable pageable);
+
+    /**
+     * Retrieves the assignments of a course using keyset pagination on the ID.
+     *
+     * @param courseId ID of the course
+     * @param limit    maximum number of results
+     * @param cursor   cursor of the previous page, or null for the first page
+     * @return page of CourseAssignDTOs ordered by ID with the cursor for the next page
+     */
+    CursorPageDTO<CourseAssignDTO> getCourseAssignsByCourse(Long courseId, int limit, String cursor);
+
     /**
      * Retrieves a paginated list of all course assignments.
      *
@@ -17,6 +48,16 @@ public interface CourseAssignService {
      */
     Page<CourseAssignDTO> getAllCoursesAssignment(Pageable pageable);
 
+    /**
+     * Retrieves all course assignments using keyset pagination on the ID, without an offset or count query.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of CourseAssignDTOs with the cursor for the next page
+     */
+    CursorPageDTO<CourseAssignDTO> getAllCoursesAssignment(int limit, String cursor, boolean ascending);
+
 
     /**
      * Retrieves a specific course assignment by its ID.
@@ -51,4 +92,6 @@ public interface CourseAssignService {
     void deleteCourseAssign(Long id);
 
     Long getAssignedCourseCountByUser(Long userId);
+
+    List<CourseAssignDTO> getCourseAssignsByCourseIds(Collection<Long> courseIds);
 }
@@ -1,6 +1,7 @@
 package com.qslabs.sms.service;
 
 import com.qslabs.sms.dto.CourseDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -18,6 +19,16 @@ public interface CourseService {
      */
     Page<CourseDTO> getAllCourses(Pageable pageable);
 
+    /**
+     * Retrieves all courses using keyset pagination on the ID, without an offset or count query.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of CourseDTOs with the cursor for the next page
+     */
+    CursorPageDTO<CourseDTO> getAllCourses(int limit, String cursor, boolean ascending);
+
     /**
      * Retrieves a specific course by its ID.
      *
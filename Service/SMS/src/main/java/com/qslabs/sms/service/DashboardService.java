@@ -0,0 +1,17 @@
+package com.qslabs.sms.service;
+
+import com.qslabs.sms.dto.AdminDashboardDTO;
+
+/**
+ * Service interface for dashboard aggregates.
+ * Combines data from the other services so a dashboard loads with a single request.
+ */
+public interface DashboardService {
+
+    /**
+     * Builds the admin dashboard payload.
+     *
+     * @return AdminDashboardDTO with counts, today's classes, featured courses and attendance totals
+     */
+    AdminDashboardDTO getAdminDashboard();
+}
@@ -0,0 +1,20 @@
+package com.qslabs.sms.service;
+
+/**
+ * Service interface for checking login passwords.
+ * Password hashing is CPU heavy, so checks run on a bounded pool instead of the request threads
+ * and are refused quickly when the pool is saturated.
+ */
+public interface PasswordVerificationService {
+
+    /**
+     * Checks a raw password against a stored hash.
+     * When no hash is given, a check against a dummy hash is still run so unknown usernames take as long as known ones.
+     *
+     * @param rawPassword     password entered by the user
+     * @param encodedPassword stored password hash, or null if the user does not exist
+     * @return true if the password matches the hash
+     * @throws com.qslabs.sms.exception.LoginBusyException if the check cannot start or finish in time
+     */
+    boolean matches(String rawPassword, String encodedPassword);
+}
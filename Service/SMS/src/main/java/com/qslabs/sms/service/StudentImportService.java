@@ -0,0 +1,52 @@
+package com.qslabs.sms.service;
+
+import com.qslabs.sms.dto.ImportReportDTO;
+import com.qslabs.sms.exception.ValidationException;
+import com.qslabs.sms.util.Constants;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for onboarding students in bulk from an uploaded file.
+ */
+public interface StudentImportService {
+
+    /**
+     * Supported upload formats.
+     */
+    enum Format {
+        CSV,
+        NDJSON;
+
+        /**
+         * Resolves a format from its request parameter value.
+         *
+         * @param value format name, case-insensitive
+         * @return matching format
+         * @throws ValidationException if the format is not supported
+         */
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ValidationException(Constants.INVALID_IMPORT_FORMAT);
+        }
+    }
+
+    /**
+     * Creates a student user and a student profile for every valid row of the upload.
+     * CSV uploads start with a header row naming the columns after the fields of
+     * StudentImportRowDTO; NDJSON uploads hold one such object per line.
+     * Rows that cannot be read, miss a required field or reuse a username are skipped and reported.
+     *
+     * @param in     uploaded file
+     * @param format format of the file
+     * @return numbers of rows read and imported, and the error of each skipped row
+     * @throws IOException if the upload cannot be read
+     * @throws ValidationException if the upload has more rows than allowed
+     */
+    ImportReportDTO importStudents(InputStream in, Format format) throws IOException;
+}
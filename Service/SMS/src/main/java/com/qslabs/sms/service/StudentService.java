@@ -1,10 +1,9 @@
 package com.qslabs.sms.service;
 
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.dto.StudentDTO;
 import com.qslabs.sms.model.Student;
 
-import java.util.List;
-
 /**
  * Interface for managing student records.
  * Provides method signatures to retrieve, add, update, and delete students.
@@ -12,13 +11,14 @@ import java.util.List;
 public interface StudentService {
 
     /**
-     * Retrieves all students with pagination.
+     * Retrieves students with cursor (keyset) pagination.
      *
      * @param limit Number of students per page
-     * @param offset Starting point for fetching students
-     * @return List of StudentDTO containing paginated student records
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param sortBy Sort key, either "studentId" or "lastName"
+     * @return CursorPageDTO containing the page of students and the next cursor
      */
-    List<StudentDTO> getAllStudents(int limit, int offset);
+    CursorPageDTO<StudentDTO> getAllStudents(int limit, String cursor, String sortBy);
 
     /**
      * Retrieves a student by ID.
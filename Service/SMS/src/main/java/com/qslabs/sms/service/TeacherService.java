@@ -1,9 +1,13 @@
 package com.qslabs.sms.service;
 
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.dto.TeacherDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Service interface for managing Teacher entities.
  * Defines operations for creating, retrieving, updating, and deleting teacher records.
@@ -18,6 +22,16 @@ public interface TeacherService {
      */
     Page<TeacherDTO> getAllTeachers(Pageable pageable);
 
+    /**
+     * Retrieves all teachers using keyset pagination on the ID, without an offset or count query.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of TeacherDTOs with the cursor for the next page
+     */
+    CursorPageDTO<TeacherDTO> getAllTeachers(int limit, String cursor, boolean ascending);
+
     /**
      * Retrieves a teacher by their user ID.
      *
@@ -59,4 +73,6 @@ public interface TeacherService {
     void deleteTeacher(Long id);
 
     Long getTeacherCount();
+
+    List<TeacherDTO> getTeachersByUserIds(Collection<Long> userIds);
 }
\ No newline at end of file
@@ -1,9 +1,13 @@
 package com.qslabs.sms.service;
 
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.dto.TimeTableDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * Service interface for managing course timetables.
  * Provides methods for creating, retrieving, updating, and deleting timetable entries.
@@ -18,6 +22,16 @@ public interface TimeTableService {
      */
     Page<TimeTableDTO> getAllTimeTables(Pageable pageable);
 
+    /**
+     * Retrieves all timetable entries using keyset pagination on the ID, without an offset or count query.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of TimeTableDTOs with the cursor for the next page
+     */
+    CursorPageDTO<TimeTableDTO> getAllTimeTables(int limit, String cursor, boolean ascending);
+
     /**
      * Retrieves a specific timetable entry by its ID.
      *
@@ -52,4 +66,23 @@ public interface TimeTableService {
     boolean deleteTimeTable(Long id);
 
     Long getTodayClassCount();
+
+    /**
+     * Retrieves the timetable entries for a date, ordered by start time.
+     *
+     * @param date  the date of the classes
+     * @param limit maximum number of entries
+     * @return list of TimeTableDTOs
+     */
+    List<TimeTableDTO> getTimeTablesByDate(LocalDate date, int limit);
+
+    /**
+     * Retrieves the timetable entries of the courses a user is assigned to within a date window.
+     *
+     * @param userId ID of the user
+     * @param from   first date of the window
+     * @param to     last date of the window
+     * @return list of TimeTableDTOs ordered by date and start time
+     */
+    List<TimeTableDTO> getTimeTablesForUser(Long userId, LocalDate from, LocalDate to);
 }
@@ -1,6 +1,7 @@
 package com.qslabs.sms.service;
 
 import com.qslabs.sms.dto.AuthDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.dto.UserDTO;
 import com.qslabs.sms.dto.UserResponseDTO;
 import com.qslabs.sms.model.User;
@@ -27,6 +28,16 @@ public interface UserService {
 
     Page<UserResponseDTO> getAllUsers(Pageable pageable);
 
+    /**
+     * Retrieves all users using keyset pagination on the ID, without an offset or count query.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of UserResponseDTOs with the cursor for the next page
+     */
+    CursorPageDTO<UserResponseDTO> getAllUsers(int limit, String cursor, boolean ascending);
+
     /**
      * Validates user credentials.
      *
@@ -36,6 +47,13 @@ public interface UserService {
      */
     AuthDTO isUser(String username, String password);
 
+    /**
+     * Ends a session by deleting its token.
+     *
+     * @param token the session token to invalidate
+     */
+    void logout(String token);
+
     /**
      * Updates the username of a user by ID.
      *
@@ -0,0 +1,41 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.dto.AuthDTO;
+import com.qslabs.sms.exception.ForbiddenException;
+import com.qslabs.sms.model.User;
+import com.qslabs.sms.repository.UserRepository;
+import com.qslabs.sms.service.AccessService;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the AccessService interface.
+ * Token requests carry the user ID in the authentication details; HTTP Basic requests
+ * resolve it from the username.
+ */
+@Service
+public class AccessServiceImpl implements AccessService {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Override
+    public void requireSelfOrAdmin(Long userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new ForbiddenException();
+        }
+        if (authentication.getAuthorities().stream().anyMatch(authority -> Constants.ADMIN_AUTHORITY.equals(authority.getAuthority()))) {
+            return;
+        }
+        Long currentUserId = authentication.getDetails() instanceof AuthDTO tokenData
+                ? tokenData.getUserId()
+                : userRepository.findByUsername(authentication.getName()).map(User::getId).orElse(null);
+        if (!userId.equals(currentUserId)) {
+            throw new ForbiddenException();
+        }
+    }
+}
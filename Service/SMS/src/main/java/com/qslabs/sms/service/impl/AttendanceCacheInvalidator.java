@@ -0,0 +1,90 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.event.AttendanceChangedEvent;
+import com.qslabs.sms.model.Attendance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Evicts the attendance cache entries that depend on a changed attendance record once its write commits:
+ * the record itself, the lists of its student and its course, and the list of the student in the course.
+ * A record moved to another student or course also evicts the lists it was moved out of.
+ * Other entries stay cached; eviction clears the shared Redis entry and the local entry on every node.
+ * A read that loaded the rows before the commit may still put them into the cache after the first
+ * eviction, so the entries are evicted again after {@code sms.cache.attendance-reevict-delay}.
+ * Only a read slower than that delay can leave stale rows cached, until their TTL expires.
+ */
+@Component
+public class AttendanceCacheInvalidator {
+
+    private static final String ATTENDANCE_CACHE = "attendance";
+    private static final String BY_STUDENT_CACHE = "attendanceByStudent";
+    private static final String BY_COURSE_CACHE = "attendanceByCourse";
+    private static final String BY_STUDENT_COURSE_CACHE = "attendanceByStudentCourse";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${sms.cache.attendance-reevict-delay:2s}")
+    private Duration reevictDelay;
+
+    /**
+     * Evicts the entries of every row before and after the change, once after the commit and once
+     * more after the delay.
+     *
+     * @param event the attendance change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        Set<Long> ids = new LinkedHashSet<>();
+        Set<Long> users = new LinkedHashSet<>();
+        Set<Long> courses = new LinkedHashSet<>();
+        Set<String> userCourses = new LinkedHashSet<>();
+        Stream.concat(event.getRemoved().stream(), event.getWritten().stream()).forEach(row -> {
+            if (row.getId() != null) {
+                ids.add(row.getId());
+            }
+            users.add(row.getUserId());
+            if (row.getCourseId() != null) {
+                courses.add(row.getCourseId());
+            }
+            userCourses.add(studentCourseKey(row));
+        });
+        Runnable evictAll = () -> {
+            evict(ATTENDANCE_CACHE, ids);
+            evict(BY_STUDENT_CACHE, users);
+            evict(BY_COURSE_CACHE, courses);
+            evict(BY_STUDENT_COURSE_CACHE, userCourses);
+        };
+        evictAll.run();
+        taskScheduler.schedule(evictAll, Instant.now().plus(reevictDelay));
+    }
+
+    /**
+     * Builds the key of the student's list in a course, as used by getAttendanceByStudentAndCourse.
+     */
+    private static String studentCourseKey(Attendance attendance) {
+        return attendance.getUserId() + "_" + attendance.getCourseId();
+    }
+
+    private void evict(String cacheName, Set<?> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            keys.forEach(cache::evict);
+        }
+    }
+}
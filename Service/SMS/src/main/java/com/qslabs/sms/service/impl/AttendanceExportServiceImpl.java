@@ -0,0 +1,171 @@
+package com.qslabs.sms.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qslabs.sms.dto.AttendanceFilterDTO;
+import com.qslabs.sms.service.AttendanceExportService;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implementation of the AttendanceExportService interface.
+ * Reads through a forward-only JDBC cursor with a bounded fetch size and writes each row
+ * straight to the response, so memory use does not grow with the size of the export.
+ */
+@Service
+public class AttendanceExportServiceImpl implements AttendanceExportService {
+
+    private static final String CSV_HEADER = "id,userId,role,courseId,date,status";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${sms.attendance.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Streams the matching rows. Runs in a read-only transaction because the Postgres
+     * driver only uses a cursor for fetching when autocommit is off.
+     */
+    @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public void export(AttendanceFilterDTO filter, Format format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+        JsonGenerator json = format == Format.NDJSON ? objectMapper.getFactory().createGenerator(writer) : null;
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        List<Object> args = new ArrayList<>();
+        String sql = buildQuery(filter, args);
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            }, rs -> {
+                try {
+                    if (json != null) {
+                        writeJson(json, rs);
+                    } else {
+                        writeCsv(writer, rs);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (json != null) {
+            json.flush();
+        }
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+    }
+
+    /**
+     * Builds the export query with a predicate for each supplied filter only.
+     */
+    private String buildQuery(AttendanceFilterDTO filter, List<Object> args) {
+        StringBuilder sql = new StringBuilder("SELECT id, user_id, role, course_id, date, status FROM ")
+                .append(Constants.ATTENDANCE_TABLE)
+                .append(" WHERE 1 = 1");
+        if (filter.getFrom() != null) {
+            sql.append(" AND date >= ?");
+            args.add(Date.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append(" AND date <= ?");
+            args.add(Date.valueOf(filter.getTo()));
+        }
+        if (filter.getCourseId() != null) {
+            sql.append(" AND course_id = ?");
+            args.add(filter.getCourseId());
+        }
+        if (filter.getRole() != null) {
+            sql.append(" AND role = ?");
+            args.add(filter.getRole());
+        }
+        return sql.append(" ORDER BY date, id").toString();
+    }
+
+    private void writeCsv(Writer writer, ResultSet rs) throws IOException, SQLException {
+        writer.write(String.valueOf(rs.getLong(1)));
+        writer.write(',');
+        writer.write(csvValue(rs.getObject(2)));
+        writer.write(',');
+        writer.write(csvValue(rs.getString(3)));
+        writer.write(',');
+        writer.write(csvValue(rs.getObject(4)));
+        writer.write(',');
+        writer.write(csvValue(rs.getDate(5) != null ? rs.getDate(5).toLocalDate() : null));
+        writer.write(',');
+        writer.write(csvValue(rs.getString(6)));
+        writer.write('\n');
+    }
+
+    private void writeJson(JsonGenerator json, ResultSet rs) throws IOException, SQLException {
+        json.writeStartObject();
+        json.writeNumberField("id", rs.getLong(1));
+        writeNullableNumber(json, "userId", rs.getObject(2));
+        json.writeStringField("role", rs.getString(3));
+        writeNullableNumber(json, "courseId", rs.getObject(4));
+        json.writeStringField("date", rs.getDate(5) != null ? rs.getDate(5).toLocalDate().toString() : null);
+        json.writeStringField("status", rs.getString(6));
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private void writeNullableNumber(JsonGenerator json, String field, Object value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeNumberField(field, ((Number) value).longValue());
+        }
+    }
+
+    /**
+     * Formats a CSV field, quoting it when it contains a separator, quote or line break.
+     */
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
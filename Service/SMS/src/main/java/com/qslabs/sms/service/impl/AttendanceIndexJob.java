@@ -0,0 +1,34 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.service.AttendanceIndexService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the in-memory attendance index at startup and reloads it nightly,
+ * which corrects any drift and moves the index to the next term.
+ */
+@Component
+public class AttendanceIndexJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceIndexJob.class);
+
+    @Autowired
+    private AttendanceIndexService attendanceIndexService;
+
+    /**
+     * Rebuilds the index from the attendance table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${sms.attendance.index.reload-cron:0 15 3 * * *}")
+    public void reload() {
+        long started = System.currentTimeMillis();
+        long loaded = attendanceIndexService.reload();
+        log.info("Attendance index loaded {} records in {} ms", loaded, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,371 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.dto.AttendanceStatsDTO;
+import com.qslabs.sms.event.AttendanceChangedEvent;
+import com.qslabs.sms.model.Attendance;
+import com.qslabs.sms.service.AttendanceIndexService;
+import com.qslabs.sms.util.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the AttendanceIndexService interface.
+ * Each (userId, courseId) pair holds two bitsets indexed by day of term: days with a record and
+ * days marked present. A term of about 200 class days costs well under 100 bytes of bits per pair,
+ * so tens of thousands of pairs fit in a few MB.
+ * <p>
+ * Writes are applied locally after commit and published on a Redis channel so every node applies
+ * them too. A nightly reload from the attendance table corrects any drift and moves to the next term.
+ */
+@Service
+public class AttendanceIndexServiceImpl implements AttendanceIndexService, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceIndexServiceImpl.class);
+
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String FIELD_SEPARATOR = ",";
+    private static final String ADD = "+";
+    private static final String REMOVE = "-";
+
+    private static final String SELECT_TERM = "SELECT user_id, course_id, date, status FROM " + Constants.ATTENDANCE_TABLE
+            + " WHERE date BETWEEN ? AND ?";
+    private static final String SELECT_USER_TERM = SELECT_TERM + " AND user_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${sms.attendance.index.term-start:}")
+    private String termStart;
+
+    @Value("${sms.attendance.index.term-end:}")
+    private String termEnd;
+
+    @Value("${sms.attendance.index.fetch-size:1000}")
+    private int fetchSize;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Object loadLock = new Object();
+
+    /** Index of the current term; null until the first load completes. */
+    private volatile Snapshot index;
+
+    /** Changes received while a load runs, replayed onto the new index; guarded by loadLock. */
+    private List<String> pendingOps;
+
+    /**
+     * Loads the current term through a database cursor into a new index and swaps it in.
+     * Changes made while the load runs are replayed onto the new index before the swap.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public synchronized long reload() {
+        LocalDate start = resolveTermStart();
+        Snapshot next = new Snapshot(start, resolveTermEnd(start));
+        synchronized (loadLock) {
+            pendingOps = new ArrayList<>();
+        }
+        long loaded;
+        try {
+            loaded = load(next, SELECT_TERM, Date.valueOf(next.start), Date.valueOf(next.end));
+        } catch (RuntimeException e) {
+            synchronized (loadLock) {
+                pendingOps = null;
+            }
+            throw e;
+        }
+        synchronized (loadLock) {
+            pendingOps.forEach(next::apply);
+            pendingOps = null;
+            index = next;
+        }
+        return loaded;
+    }
+
+    /**
+     * Records a committed attendance change in the index of every node.
+     * Removals are applied before additions.
+     *
+     * @param event the attendance change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        List<Attendance> removed = event.getRemoved();
+        List<Attendance> added = event.getWritten();
+        List<String> ops = new ArrayList<>(removed.size() + added.size());
+        for (Attendance attendance : removed) {
+            if (attendance.getUserId() != null && attendance.getDate() != null) {
+                ops.add(String.join(FIELD_SEPARATOR, REMOVE, attendance.getUserId().toString(),
+                        String.valueOf(courseKey(attendance.getCourseId())), attendance.getDate().toString()));
+            }
+        }
+        for (Attendance attendance : added) {
+            if (attendance.getUserId() != null && attendance.getDate() != null) {
+                ops.add(String.join(FIELD_SEPARATOR, ADD, attendance.getUserId().toString(),
+                        String.valueOf(courseKey(attendance.getCourseId())), attendance.getDate().toString(),
+                        Constants.STATUS_PRESENT.equals(attendance.getStatus()) ? "1" : "0"));
+            }
+        }
+        if (!ops.isEmpty()) {
+            publish(ops);
+        }
+    }
+
+    @Override
+    public AttendanceStatsDTO getStats(Long userId, Long courseId) {
+        Snapshot current = forUser(userId);
+        DayBits bits = current.get(userId, courseKey(courseId));
+        return bits != null ? bits.toStats(userId, courseId, current.start) : emptyStats(userId, courseId);
+    }
+
+    @Override
+    public List<AttendanceStatsDTO> getStatsByUser(Long userId) {
+        Snapshot current = forUser(userId);
+        Map<Long, DayBits> courses = current.users.get(userId);
+        List<AttendanceStatsDTO> stats = new ArrayList<>();
+        if (courses != null) {
+            new TreeMap<>(courses).forEach((courseId, bits) -> stats.add(bits.toStats(userId, courseId, current.start)));
+        }
+        return stats;
+    }
+
+    /**
+     * Applies changes published by another node. Messages from this node are ignored.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split(LINE_SEPARATOR);
+        if (lines.length < 2 || nodeId.equals(lines[0])) {
+            return;
+        }
+        apply(Arrays.asList(lines).subList(1, lines.length));
+    }
+
+    /**
+     * Applies changes locally and tells the other nodes to apply them.
+     */
+    private void publish(List<String> ops) {
+        apply(ops);
+        try {
+            redisTemplate.convertAndSend(Constants.ATTENDANCE_INDEX_CHANNEL, nodeId + LINE_SEPARATOR + String.join(LINE_SEPARATOR, ops));
+        } catch (RuntimeException e) {
+            log.warn("Could not publish {} attendance index changes, other nodes catch up on the next reload", ops.size(), e);
+        }
+    }
+
+    /**
+     * Applies changes to the current index, and queues them for the new index if a load is running.
+     * Changes are idempotent, so applying one to both is harmless.
+     */
+    private void apply(List<String> ops) {
+        synchronized (loadLock) {
+            if (pendingOps != null) {
+                pendingOps.addAll(ops);
+            }
+        }
+        Snapshot current = index;
+        if (current != null) {
+            ops.forEach(current::apply);
+        }
+    }
+
+    /**
+     * Returns the index, or a one-user index read from the database while the first load is still running.
+     */
+    private Snapshot forUser(Long userId) {
+        Snapshot current = index;
+        if (current != null) {
+            return current;
+        }
+        LocalDate start = resolveTermStart();
+        Snapshot single = new Snapshot(start, resolveTermEnd(start));
+        load(single, SELECT_USER_TERM, Date.valueOf(single.start), Date.valueOf(single.end), userId);
+        return single;
+    }
+
+    /**
+     * Streams attendance rows into the given index.
+     */
+    private long load(Snapshot target, String sql, Object... args) {
+        long[] count = {0};
+        RowCallbackHandler handler = rs -> {
+            target.set(rs.getLong(1), courseKey(rs.getObject(2, Long.class)), rs.getDate(3).toLocalDate(),
+                    Constants.STATUS_PRESENT.equals(rs.getString(4)));
+            count[0]++;
+        };
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, handler);
+        return count[0];
+    }
+
+    private LocalDate resolveTermStart() {
+        return termStart.isBlank() ? LocalDate.now().withDayOfYear(1) : LocalDate.parse(termStart);
+    }
+
+    private LocalDate resolveTermEnd(LocalDate start) {
+        return termEnd.isBlank() ? start.plusYears(1).minusDays(1) : LocalDate.parse(termEnd);
+    }
+
+    private static long courseKey(Long courseId) {
+        return courseId != null ? courseId : Constants.ROLLUP_NO_COURSE;
+    }
+
+    private static AttendanceStatsDTO emptyStats(Long userId, Long courseId) {
+        AttendanceStatsDTO stats = new AttendanceStatsDTO();
+        stats.setUserId(userId);
+        stats.setCourseId(courseId);
+        stats.setMonths(new ArrayList<>());
+        return stats;
+    }
+
+    /**
+     * Attendance bitsets of one term, keyed by user ID and then course ID.
+     */
+    private static final class Snapshot {
+
+        private final LocalDate start;
+        private final LocalDate end;
+        private final Map<Long, Map<Long, DayBits>> users = new ConcurrentHashMap<>();
+
+        private Snapshot(LocalDate start, LocalDate end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private DayBits get(long userId, long courseId) {
+            Map<Long, DayBits> courses = users.get(userId);
+            return courses != null ? courses.get(courseId) : null;
+        }
+
+        private void set(long userId, long courseId, LocalDate date, boolean present) {
+            int day = dayOf(date);
+            if (day >= 0) {
+                users.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(courseId, id -> new DayBits())
+                        .set(day, present);
+            }
+        }
+
+        private void clear(long userId, long courseId, LocalDate date) {
+            int day = dayOf(date);
+            DayBits bits = get(userId, courseId);
+            if (day >= 0 && bits != null) {
+                bits.clear(day);
+            }
+        }
+
+        /**
+         * Applies one change: "+,userId,courseId,date,present" or "-,userId,courseId,date".
+         */
+        private void apply(String op) {
+            String[] fields = op.split(FIELD_SEPARATOR);
+            long userId = Long.parseLong(fields[1]);
+            long courseId = Long.parseLong(fields[2]);
+            LocalDate date = LocalDate.parse(fields[3]);
+            if (ADD.equals(fields[0])) {
+                set(userId, courseId, date, "1".equals(fields[4]));
+            } else {
+                clear(userId, courseId, date);
+            }
+        }
+
+        /**
+         * Returns the day of term of a date, or -1 if it falls outside the term.
+         */
+        private int dayOf(LocalDate date) {
+            if (date.isBefore(start) || date.isAfter(end)) {
+                return -1;
+            }
+            return (int) ChronoUnit.DAYS.between(start, date);
+        }
+    }
+
+    /**
+     * Per-day attendance bits of one user in one course.
+     */
+    private static final class DayBits {
+
+        private final BitSet marked = new BitSet();
+        private final BitSet present = new BitSet();
+
+        private synchronized void set(int day, boolean isPresent) {
+            marked.set(day);
+            present.set(day, isPresent);
+        }
+
+        private synchronized void clear(int day) {
+            marked.clear(day);
+            present.clear(day);
+        }
+
+        /**
+         * Computes the totals, streaks and monthly counts in one pass over the marked days.
+         * The current streak is the run of present days ending at the latest marked day.
+         */
+        private synchronized AttendanceStatsDTO toStats(Long userId, Long courseId, LocalDate start) {
+            Map<YearMonth, long[]> months = new LinkedHashMap<>();
+            int run = 0;
+            int longest = 0;
+            for (int day = marked.nextSetBit(0); day >= 0; day = marked.nextSetBit(day + 1)) {
+                long[] counts = months.computeIfAbsent(YearMonth.from(start.plusDays(day)), month -> new long[2]);
+                counts[0]++;
+                if (present.get(day)) {
+                    counts[1]++;
+                    longest = Math.max(longest, ++run);
+                } else {
+                    run = 0;
+                }
+            }
+
+            AttendanceStatsDTO stats = new AttendanceStatsDTO();
+            stats.setUserId(userId);
+            stats.setCourseId(courseId);
+            stats.setTotalCount(marked.cardinality());
+            stats.setPresentCount(present.cardinality());
+            stats.setAttendancePercentage(stats.getTotalCount() == 0 ? 0.0
+                    : Math.round(stats.getPresentCount() * 10000.0 / stats.getTotalCount()) / 100.0);
+            stats.setCurrentStreak(run);
+            stats.setLongestStreak(longest);
+            List<AttendanceStatsDTO.MonthCount> monthCounts = new ArrayList<>();
+            months.forEach((month, counts) -> monthCounts.add(new AttendanceStatsDTO.MonthCount(month.toString(), counts[0], counts[1])));
+            stats.setMonths(monthCounts);
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.qslabs.sms.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qslabs.sms.dto.IngestStatusDTO;
+import com.qslabs.sms.dto.RollCallDTO;
+import com.qslabs.sms.exception.IngestBacklogException;
+import com.qslabs.sms.exception.ValidationException;
+import com.qslabs.sms.service.AttendanceIngestService;
+import com.qslabs.sms.service.AttendanceService;
+import com.qslabs.sms.util.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of the AttendanceIngestService interface backed by a Redis stream.
+ * Requests are acknowledged once the roll call is appended to the stream. A background
+ * writer reads the stream through a consumer group and writes batches of roll calls in
+ * one transaction, acknowledging them only after the commit. Entries left unacknowledged
+ * by a crash are replayed by the same node on restart, or claimed by another node once
+ * they have been idle for {@code sms.attendance.ingest.claim-idle}. Roll calls are upserted,
+ * so a replay after a commit whose acknowledgement was lost rewrites the same rows.
+ * An entry that still fails after {@code sms.attendance.ingest.max-deliveries} deliveries
+ * is dead-lettered, and failed drains back off up to {@code sms.attendance.ingest.max-backoff}.
+ */
+@Service
+public class AttendanceIngestServiceImpl implements AttendanceIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceIngestServiceImpl.class);
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${sms.attendance.ingest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${sms.attendance.ingest.batch-size:200}")
+    private int batchSize;
+
+    @Value("${sms.attendance.ingest.max-backlog:50000}")
+    private long maxBacklog;
+
+    @Value("${sms.attendance.ingest.claim-idle:60s}")
+    private Duration claimIdle;
+
+    @Value("${sms.attendance.ingest.consumer:${HOSTNAME:sms}}")
+    private String consumer;
+
+    @Value("${sms.attendance.ingest.max-deliveries:5}")
+    private long maxDeliveries;
+
+    @Value("${sms.attendance.ingest.poll-interval:500ms}")
+    private Duration pollInterval;
+
+    @Value("${sms.attendance.ingest.max-backoff:30s}")
+    private Duration maxBackoff;
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicLong writtenRows = new AtomicLong();
+    private volatile boolean groupReady;
+    private volatile LocalDateTime lastDrainAt;
+    private volatile String lastError;
+    private volatile Instant retryAt = Instant.EPOCH;
+    private int failedDrains;
+
+    /**
+     * Appends a roll call to the stream, or rejects it when the backlog is full.
+     *
+     * @param rollCall roll call to write
+     * @return stream entry ID, or null when ingestion is disabled and the roll call was written synchronously
+     * @throws IngestBacklogException if the stream already holds {@code sms.attendance.ingest.max-backlog} entries
+     */
+    @Override
+    public String enqueue(RollCallDTO rollCall) {
+        attendanceService.validateRollCall(rollCall);
+        if (!enabled) {
+            attendanceService.markRollCall(rollCall);
+            return null;
+        }
+        Long backlog = stream().size(Constants.ATTENDANCE_INGEST_STREAM);
+        if (backlog != null && backlog >= maxBacklog) {
+            throw new IngestBacklogException();
+        }
+        RecordId id = stream().add(StreamRecords.newRecord()
+                .in(Constants.ATTENDANCE_INGEST_STREAM)
+                .ofMap(Map.of(Constants.INGEST_PAYLOAD_FIELD, toJson(rollCall))));
+        return id.getValue();
+    }
+
+    @Override
+    public IngestStatusDTO flush() {
+        if (enabled) {
+            drain();
+        }
+        return getStatus();
+    }
+
+    @Override
+    public IngestStatusDTO getStatus() {
+        IngestStatusDTO status = new IngestStatusDTO();
+        status.setEnabled(enabled);
+        status.setWrittenRows(writtenRows.get());
+        status.setLastDrainAt(lastDrainAt);
+        status.setLastError(lastError);
+        if (enabled) {
+            ensureGroup();
+            status.setBacklog(stream().size(Constants.ATTENDANCE_INGEST_STREAM));
+            status.setPending(stream().pending(Constants.ATTENDANCE_INGEST_STREAM, Constants.ATTENDANCE_INGEST_GROUP).getTotalPendingMessages());
+            status.setDeadLettered(stream().size(Constants.ATTENDANCE_INGEST_DEAD_STREAM));
+        }
+        return status;
+    }
+
+    /**
+     * Replays the entries this node left unacknowledged before a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        scheduledDrain();
+    }
+
+    /**
+     * Background writer; errors are kept for the status endpoint and the batch is retried once the
+     * backoff has passed, which doubles after every failed run.
+     */
+    @Scheduled(fixedDelayString = "${sms.attendance.ingest.poll-interval:500ms}")
+    public void scheduledDrain() {
+        if (!enabled || Instant.now().isBefore(retryAt)) {
+            return;
+        }
+        try {
+            drain();
+            failedDrains = 0;
+        } catch (RuntimeException e) {
+            Duration backoff = backoff(++failedDrains);
+            retryAt = Instant.now().plus(backoff);
+            lastError = e.getMessage();
+            log.warn("Attendance ingestion drain failed, retrying in {}: {}", backoff, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes queued roll calls until the stream has nothing left for this node.
+     * Entries already delivered to this node but not acknowledged are written first.
+     */
+    private void drain() {
+        drainLock.lock();
+        try {
+            ensureGroup();
+            claimIdleEntries();
+            while (true) {
+                List<MapRecord<String, Object, Object>> batch = read(ReadOffset.from("0"));
+                if (batch.isEmpty()) {
+                    batch = read(ReadOffset.lastConsumed());
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                write(batch);
+            }
+            lastDrainAt = LocalDateTime.now();
+            lastError = null;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Writes one batch in a single transaction. When the database is unreachable the batch stays
+     * unacknowledged for the next run. Any other failure retries the entries one by one: rejected
+     * entries are dead-lettered, and an entry that keeps failing is dead-lettered once it has been
+     * delivered {@code maxDeliveries} times.
+     */
+    private void write(List<MapRecord<String, Object, Object>> batch) {
+        List<RollCallDTO> rollCalls = new ArrayList<>();
+        List<MapRecord<String, Object, Object>> parsed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : batch) {
+            try {
+                rollCalls.add(fromJson(record));
+                parsed.add(record);
+            } catch (JsonProcessingException e) {
+                deadLetter(record, e.getMessage());
+            }
+        }
+        if (rollCalls.isEmpty()) {
+            return;
+        }
+        try {
+            writtenRows.addAndGet(attendanceService.markRollCalls(rollCalls));
+            acknowledge(parsed);
+            return;
+        } catch (RuntimeException e) {
+            if (isUnavailable(e)) {
+                throw e;
+            }
+        }
+        RuntimeException failure = null;
+        for (int i = 0; i < parsed.size(); i++) {
+            try {
+                writtenRows.addAndGet(attendanceService.markRollCall(rollCalls.get(i)));
+                acknowledge(List.of(parsed.get(i)));
+            } catch (ValidationException | DataIntegrityViolationException rejected) {
+                deadLetter(parsed.get(i), rejected.getMessage());
+            } catch (RuntimeException e) {
+                if (isUnavailable(e)) {
+                    throw e;
+                }
+                long deliveries = deliveryCount(parsed.get(i));
+                if (deliveries >= maxDeliveries) {
+                    deadLetter(parsed.get(i), "Failed after " + deliveries + " deliveries: " + e.getMessage());
+                } else if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Whether the failure means a backing store is unreachable rather than that the entry is bad.
+     */
+    private boolean isUnavailable(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    /**
+     * Number of times the entry has been delivered to a consumer of the group, as reported by XPENDING.
+     */
+    private long deliveryCount(MapRecord<String, Object, Object> record) {
+        String id = record.getId().getValue();
+        PendingMessages pending = stream().pending(Constants.ATTENDANCE_INGEST_STREAM,
+                Consumer.from(Constants.ATTENDANCE_INGEST_GROUP, consumer), Range.closed(id, id), 1);
+        return pending.isEmpty() ? 0 : pending.get(0).getTotalDeliveryCount();
+    }
+
+    private Duration backoff(int failures) {
+        Duration backoff = pollInterval.multipliedBy(1L << Math.min(failures, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    /**
+     * Takes over entries another node received but has not acknowledged for {@code claimIdle}.
+     */
+    private void claimIdleEntries() {
+        List<RecordId> stale = new ArrayList<>();
+        for (PendingMessage message : stream().pending(Constants.ATTENDANCE_INGEST_STREAM, Constants.ATTENDANCE_INGEST_GROUP, Range.unbounded(), batchSize)) {
+            if (!consumer.equals(message.getConsumerName()) && message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0) {
+                stale.add(message.getId());
+            }
+        }
+        if (!stale.isEmpty()) {
+            stream().claim(Constants.ATTENDANCE_INGEST_STREAM, Constants.ATTENDANCE_INGEST_GROUP, consumer, claimIdle, stale.toArray(new RecordId[0]));
+        }
+    }
+
+    @SuppressWarnings("unchecked") // generic varargs array of one stream offset, never exposed by read
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = stream().read(
+                Consumer.from(Constants.ATTENDANCE_INGEST_GROUP, consumer),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(Constants.ATTENDANCE_INGEST_STREAM, offset));
+        return records != null ? records : List.of();
+    }
+
+    private void acknowledge(List<MapRecord<String, Object, Object>> records) {
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        stream().acknowledge(Constants.ATTENDANCE_INGEST_STREAM, Constants.ATTENDANCE_INGEST_GROUP, ids);
+        stream().delete(Constants.ATTENDANCE_INGEST_STREAM, ids);
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record, String reason) {
+        log.warn("Dead-lettering attendance ingestion entry {}: {}", record.getId(), reason);
+        stream().add(StreamRecords.newRecord()
+                .in(Constants.ATTENDANCE_INGEST_DEAD_STREAM)
+                .ofMap(Map.of(Constants.INGEST_PAYLOAD_FIELD, String.valueOf(record.getValue().get(Constants.INGEST_PAYLOAD_FIELD)),
+                        "error", String.valueOf(reason))));
+        acknowledge(List.of(record));
+    }
+
+    /**
+     * Creates the consumer group and the stream on first use; an existing group is kept.
+     */
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            stream().createGroup(Constants.ATTENDANCE_INGEST_STREAM, ReadOffset.from("0"), Constants.ATTENDANCE_INGEST_GROUP);
+        } catch (RedisSystemException e) {
+            if (e.getMostSpecificCause().getMessage() == null || !e.getMostSpecificCause().getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    private StreamOperations<String, Object, Object> stream() {
+        return redisTemplate.opsForStream();
+    }
+
+    private String toJson(RollCallDTO rollCall) {
+        try {
+            return objectMapper.writeValueAsString(rollCall);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException(e.getOriginalMessage());
+        }
+    }
+
+    private RollCallDTO fromJson(MapRecord<String, Object, Object> record) throws JsonProcessingException {
+        return objectMapper.readValue(String.valueOf(record.getValue().get(Constants.INGEST_PAYLOAD_FIELD)), RollCallDTO.class);
+    }
+}
@@ -0,0 +1,194 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.dto.AttendanceCourseDeltaDTO;
+import com.qslabs.sms.event.AttendanceChangedEvent;
+import com.qslabs.sms.model.Attendance;
+import com.qslabs.sms.service.AttendanceLiveService;
+import com.qslabs.sms.util.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Implementation of the AttendanceLiveService interface.
+ * Committed attendance changes are added to per-course counters. Once per tick the counters of this
+ * node are published on a Redis channel, merged with the counters received from other nodes and
+ * pushed to every local subscriber as one event, so a burst of writes costs each subscriber one push.
+ */
+@Service
+public class AttendanceLiveServiceImpl implements AttendanceLiveService, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceLiveServiceImpl.class);
+
+    private static final String EVENT_NAME = "attendance";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String FIELD_SEPARATOR = ",";
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${sms.attendance.live.timeout:30m}")
+    private Duration timeout;
+
+    /** Number of ticks without changes after which idle subscribers get a keep-alive comment. */
+    @Value("${sms.attendance.live.keep-alive-ticks:15}")
+    private int keepAliveTicks;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+
+    /** Changes written on this node since the last tick, by course; guarded by itself. */
+    private final Map<Long, long[]> local = new LinkedHashMap<>();
+
+    /** Changes of all nodes waiting to be pushed, by course; guarded by itself. */
+    private final Map<Long, long[]> outgoing = new LinkedHashMap<>();
+
+    private int idleTicks;
+
+    @Override
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscribers.remove(emitter));
+        try {
+            // flushes the response headers so the client sees the stream open before the first change
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscribers.add(emitter);
+        return emitter;
+    }
+
+    /**
+     * Adds a committed attendance change to the counters of this node.
+     *
+     * @param event the attendance change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChanged(AttendanceChangedEvent event) {
+        synchronized (local) {
+            event.getRemoved().forEach(attendance -> add(local, attendance, -1));
+            event.getWritten().forEach(attendance -> add(local, attendance, 1));
+        }
+    }
+
+    /**
+     * Merges counters published by another node into the next push. Messages from this node are ignored.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split(LINE_SEPARATOR);
+        if (lines.length < 2 || nodeId.equals(lines[0])) {
+            return;
+        }
+        synchronized (outgoing) {
+            for (int i = 1; i < lines.length; i++) {
+                String[] fields = lines[i].split(FIELD_SEPARATOR);
+                merge(outgoing, Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+            }
+        }
+    }
+
+    /**
+     * Publishes the counters of this node and pushes everything received since the last tick.
+     */
+    @Scheduled(fixedRateString = "${sms.attendance.live.tick:1s}")
+    public void tick() {
+        Map<Long, long[]> changes = drain(local);
+        if (!changes.isEmpty()) {
+            publish(changes);
+            synchronized (outgoing) {
+                changes.forEach((courseId, counts) -> merge(outgoing, courseId, counts[0], counts[1]));
+            }
+        }
+        Map<Long, long[]> pending = drain(outgoing);
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (!pending.isEmpty()) {
+            idleTicks = 0;
+            List<AttendanceCourseDeltaDTO> deltas = new ArrayList<>(pending.size());
+            pending.forEach((courseId, counts) -> deltas.add(new AttendanceCourseDeltaDTO(
+                    courseId == Constants.ROLLUP_NO_COURSE ? null : courseId, counts[0], counts[1])));
+            push(SseEmitter.event().name(EVENT_NAME).data(deltas, MediaType.APPLICATION_JSON));
+        } else if (++idleTicks >= keepAliveTicks) {
+            idleTicks = 0;
+            push(SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    /**
+     * Sends an event to every subscriber, dropping subscribers whose connection is gone.
+     * The event is built once; a builder cannot be sent twice.
+     */
+    private void push(SseEmitter.SseEventBuilder event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> data = event.build();
+        for (SseEmitter emitter : subscribers) {
+            try {
+                emitter.send(data);
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void publish(Map<Long, long[]> changes) {
+        StringBuilder body = new StringBuilder(nodeId);
+        changes.forEach((courseId, counts) -> body.append(LINE_SEPARATOR).append(courseId)
+                .append(FIELD_SEPARATOR).append(counts[0]).append(FIELD_SEPARATOR).append(counts[1]));
+        try {
+            redisTemplate.convertAndSend(Constants.ATTENDANCE_LIVE_CHANNEL, body.toString());
+        } catch (RuntimeException e) {
+            log.warn("Could not publish live attendance changes of {} courses", changes.size(), e);
+        }
+    }
+
+    private static void add(Map<Long, long[]> counters, Attendance attendance, int sign) {
+        long courseId = attendance.getCourseId() != null ? attendance.getCourseId() : Constants.ROLLUP_NO_COURSE;
+        merge(counters, courseId, sign, Constants.STATUS_PRESENT.equals(attendance.getStatus()) ? sign : 0);
+    }
+
+    private static void merge(Map<Long, long[]> counters, long courseId, long total, long present) {
+        long[] counts = counters.computeIfAbsent(courseId, key -> new long[2]);
+        counts[0] += total;
+        counts[1] += present;
+    }
+
+    /**
+     * Takes the counters out of a map, skipping courses whose changes cancelled out.
+     */
+    private static Map<Long, long[]> drain(Map<Long, long[]> counters) {
+        synchronized (counters) {
+            Map<Long, long[]> drained = new LinkedHashMap<>(counters);
+            counters.clear();
+            drained.values().removeIf(counts -> counts[0] == 0 && counts[1] == 0);
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.service.AttendancePartitionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Maintains the monthly partitions of the attendance table when partitioning is enabled.
+ * Converts the table at startup, creates the partitions of the coming months nightly and,
+ * when archiving is enabled, archives the partitions of closed years.
+ */
+@Component
+public class AttendancePartitionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendancePartitionJob.class);
+
+    @Autowired
+    private AttendancePartitionService attendancePartitionService;
+
+    @Value("${sms.attendance.partitioning.enabled:false}")
+    private boolean enabled;
+
+    @Value("${sms.attendance.partitioning.archive:false}")
+    private boolean archive;
+
+    /**
+     * Runs before the other startup jobs, so they read the table in its final layout.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Scheduled(cron = "${sms.attendance.partitioning.cron:0 0 2 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        if (!attendancePartitionService.isPartitioned()) {
+            long started = System.currentTimeMillis();
+            int created = attendancePartitionService.partition();
+            log.info("Attendance table converted to {} monthly partitions in {} ms", created, System.currentTimeMillis() - started);
+        }
+        List<YearMonth> created = attendancePartitionService.createFuturePartitions();
+        if (!created.isEmpty()) {
+            log.info("Created attendance partitions for {}", created);
+        }
+        if (archive) {
+            List<YearMonth> archived = attendancePartitionService.archiveClosedYears();
+            if (!archived.isEmpty()) {
+                log.info("Archived attendance partitions for {}", archived);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.repository.AttendancePartitionRepository;
+import com.qslabs.sms.service.AttendancePartitionService;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Implementation of the AttendancePartitionService interface.
+ * Partition changes run in a transaction, so a failed change leaves the table as it was.
+ */
+@Service
+public class AttendancePartitionServiceImpl implements AttendancePartitionService {
+
+    @Autowired
+    private AttendancePartitionRepository attendancePartitionRepository;
+
+    @Value("${sms.attendance.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${sms.attendance.partitioning.retain-years:2}")
+    private int retainYears;
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isPartitioned() {
+        return attendancePartitionRepository.isPartitioned();
+    }
+
+    @Override
+    @Transactional
+    public int partition() {
+        if (attendancePartitionRepository.isPartitioned()) {
+            return 0;
+        }
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        LocalDate firstDate = attendancePartitionRepository.findFirstDate();
+        YearMonth first = firstDate != null && firstDate.isBefore(LocalDate.now()) ? YearMonth.from(firstDate) : YearMonth.now();
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        attendancePartitionRepository.convertToPartitioned(months);
+        return months.size();
+    }
+
+    @Override
+    @Transactional
+    public List<YearMonth> createFuturePartitions() {
+        TreeSet<YearMonth> attached = attendancePartitionRepository.findAttachedMonths();
+        List<YearMonth> created = new ArrayList<>();
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        for (YearMonth month = YearMonth.now(); !month.isAfter(last); month = month.plusMonths(1)) {
+            if (!attached.contains(month)) {
+                attendancePartitionRepository.createPartition(month);
+                created.add(month);
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Archives every attached month before the oldest retained year; with two retained years,
+     * the current and the previous year stay attached.
+     */
+    @Override
+    @Transactional
+    public List<YearMonth> archiveClosedYears() {
+        YearMonth cutoff = YearMonth.of(LocalDate.now().getYear() - Math.max(retainYears, 1) + 1, 1);
+        TreeSet<YearMonth> archived = attendancePartitionRepository.findArchivedMonths();
+        List<YearMonth> moved = new ArrayList<>();
+        for (YearMonth month : attendancePartitionRepository.findAttachedMonths().headSet(cutoff)) {
+            if (!archived.contains(month)) {
+                attendancePartitionRepository.archivePartition(month);
+                moved.add(month);
+            }
+        }
+        return moved;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDate getArchiveHorizon() {
+        TreeSet<YearMonth> archived = attendancePartitionRepository.findArchivedMonths();
+        return archived.isEmpty() ? Constants.ATTENDANCE_NOT_ARCHIVED : archived.last().plusMonths(1).atDay(1);
+    }
+}
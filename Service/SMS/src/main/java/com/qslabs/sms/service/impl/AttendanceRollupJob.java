@@ -0,0 +1,37 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.service.AttendanceRollupService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled consistency check of the attendance summary rollup.
+ * Rebuilds the rollup when it has drifted from the attendance table.
+ */
+@Component
+public class AttendanceRollupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceRollupJob.class);
+
+    @Autowired
+    private AttendanceRollupService attendanceRollupService;
+
+    /**
+     * Verifies the rollup and rebuilds it on any mismatch.
+     * Also runs at startup so the rollup is populated for existing attendance data.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${sms.attendance.rollup.verify-cron:0 30 2 * * *}")
+    public void verifyAndRepair() {
+        long mismatches = attendanceRollupService.verify();
+        if (mismatches > 0) {
+            log.warn("Attendance rollup has {} mismatching buckets, rebuilding", mismatches);
+            log.info("Attendance rollup rebuilt with {} buckets", attendanceRollupService.rebuild());
+        }
+    }
+}
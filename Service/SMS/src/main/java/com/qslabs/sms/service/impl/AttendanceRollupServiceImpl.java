@@ -0,0 +1,55 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.model.Attendance;
+import com.qslabs.sms.repository.AttendanceRollupRepository;
+import com.qslabs.sms.service.AttendancePartitionService;
+import com.qslabs.sms.service.AttendanceRollupService;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Implementation of the AttendanceRollupService interface.
+ * Buckets are updated with an upsert per write and can be recomputed from the attendance table.
+ * Buckets of archived months no longer have rows in the attendance table, so they are kept as they are.
+ */
+@Service
+public class AttendanceRollupServiceImpl implements AttendanceRollupService {
+
+    @Autowired
+    private AttendanceRollupRepository attendanceRollupRepository;
+
+    @Autowired
+    private AttendancePartitionService attendancePartitionService;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Attendance attendance, int sign) {
+        attendanceRollupRepository.applyDelta(
+                attendance.getUserId(),
+                attendance.getCourseId() != null ? attendance.getCourseId() : Constants.ROLLUP_NO_COURSE,
+                attendance.getRole() != null ? attendance.getRole() : Constants.ROLLUP_NO_ROLE,
+                attendance.getDate().withDayOfMonth(1),
+                sign,
+                Constants.STATUS_PRESENT.equals(attendance.getStatus()) ? sign : 0);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        LocalDate horizon = attendancePartitionService.getArchiveHorizon();
+        attendanceRollupRepository.lockForRebuild();
+        attendanceRollupRepository.deleteBucketsFrom(horizon);
+        return attendanceRollupRepository.insertFromAttendance(horizon);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long verify() {
+        return attendanceRollupRepository.countMismatches(attendancePartitionService.getArchiveHorizon());
+    }
+}
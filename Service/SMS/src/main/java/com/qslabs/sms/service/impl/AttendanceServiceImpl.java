@@ -1,22 +1,38 @@
 package com.qslabs.sms.service.impl;
 
 import com.qslabs.sms.dto.AttendanceDTO;
+import com.qslabs.sms.dto.AttendanceFilterDTO;
 import com.qslabs.sms.dto.AttendanceSummaryDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
+import com.qslabs.sms.dto.RollCallDTO;
+import com.qslabs.sms.event.AttendanceChangedEvent;
 import com.qslabs.sms.exception.AttendanceNotFoundException;
+import com.qslabs.sms.exception.ValidationException;
 import com.qslabs.sms.model.Attendance;
+import com.qslabs.sms.repository.AttendanceBatchRepository;
 import com.qslabs.sms.repository.AttendanceRepository;
+import com.qslabs.sms.repository.AttendanceRollupRepository;
+import com.qslabs.sms.repository.AttendanceSpecifications;
+import com.qslabs.sms.service.AttendanceRollupService;
 import com.qslabs.sms.service.AttendanceService;
+import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 // TODO class->interface
@@ -35,17 +51,93 @@ public class AttendanceServiceImpl implements AttendanceService {
     @Autowired
     private AttendanceRepository attendanceRepository;
 
+    @Autowired
+    private AttendanceBatchRepository attendanceBatchRepository;
+
+    @Autowired
+    private AttendanceRollupRepository attendanceRollupRepository;
+
+    @Autowired
+    private AttendanceRollupService attendanceRollupService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Marks attendance for a student in a course.
+     * Marking the same user, course and date again locks and updates the existing record;
+     * the attendance caches depending on the record are evicted once the transaction commits.
      *
      * @param attendanceDTO the attendance data to save
      * @return the saved attendance record as a DTO
      */
     @Override
+    @Transactional
     public AttendanceDTO markAttendance(AttendanceDTO attendanceDTO) {
-        Attendance attendance = new Attendance(attendanceDTO);
-        attendance = attendanceRepository.save(attendance);
-        return new AttendanceDTO(attendance);
+        AttendanceBatchRepository.Upserted row = attendanceBatchRepository.upsert(new Attendance(attendanceDTO));
+        recordUpserts(List.of(row));
+        return new AttendanceDTO(row.getCurrent());
+    }
+
+    /**
+     * Marks attendance for a whole class session.
+     * Rows are upserted with locked reads, an insert and an update per session, and their rollup
+     * deltas applied in one batch; the course and student
+     * attendance caches touched by the session are evicted once it commits.
+     *
+     * @param rollCall course, date and the status of each user
+     * @return number of attendance records written
+     */
+    @Override
+    @Transactional
+    public int markRollCall(RollCallDTO rollCall) {
+        return markRollCalls(List.of(rollCall));
+    }
+
+    /**
+     * Marks attendance for several class sessions in one transaction.
+     * Each roll call locks its existing rows, inserts the missing ones and updates the changed ones,
+     * so replaying a roll call does not add rows;
+     * the caches touched by any of them are evicted once the transaction commits.
+     *
+     * @param rollCalls roll calls to write
+     * @return number of attendance records written
+     */
+    @Override
+    @Transactional
+    public int markRollCalls(List<RollCallDTO> rollCalls) {
+        rollCalls.forEach(this::validateRollCall);
+        List<AttendanceBatchRepository.Upserted> rows = new ArrayList<>();
+        for (RollCallDTO rollCall : rollCalls) {
+            String role = rollCall.getRole() != null ? rollCall.getRole() : Constants.DEFAULT_ATTENDANCE_ROLE;
+            rows.addAll(attendanceBatchRepository.upsertRollCall(rollCall, role));
+        }
+        recordUpserts(rows);
+        return rows.size();
+    }
+
+    /**
+     * Checks that a roll call lists each user only once.
+     *
+     * @param rollCall roll call to check
+     * @throws ValidationException if a user appears more than once
+     */
+    @Override
+    public void validateRollCall(RollCallDTO rollCall) {
+        long distinctUsers = rollCall.getEntries().stream().map(RollCallDTO.Entry::getUserId).distinct().count();
+        if (distinctUsers != rollCall.getEntries().size()) {
+            throw new ValidationException(Constants.DUPLICATE_ROLL_CALL_ENTRY);
+        }
+    }
+
+    /**
+     * Applies upserted rows to the summary rollup and publishes them as one attendance change.
+     * An upsert keeps the user, course and date of the row it replaces, so only the written rows are published.
+     */
+    private void recordUpserts(List<AttendanceBatchRepository.Upserted> rows) {
+        attendanceBatchRepository.applyToRollup(rows);
+        List<Attendance> written = rows.stream().map(AttendanceBatchRepository.Upserted::getCurrent).collect(Collectors.toList());
+        eventPublisher.publishEvent(new AttendanceChangedEvent(List.of(), written));
     }
 
     /**
@@ -56,6 +148,7 @@ public class AttendanceServiceImpl implements AttendanceService {
      */
     @Override
     @Cacheable(value = "attendance", key = "#id")
+    @Transactional(readOnly = true)
     public AttendanceDTO getAttendanceById(Long id) {
         Attendance attendance = attendanceRepository.findById(id).orElseThrow(AttendanceNotFoundException::new);
         return new AttendanceDTO(attendance);
@@ -63,15 +156,22 @@ public class AttendanceServiceImpl implements AttendanceService {
 
     /**
      * Updates an existing attendance record.
+     * The record is locked while it is read, so concurrent updates move its rollup counts one after the other;
+     * the caches depending on the record before and after the update are evicted once the transaction commits.
      *
      * @param id            the ID of the record to update
      * @param attendanceDTO the updated attendance data
      * @return the updated attendance as a DTO
      */
     @Override
-    @CachePut(value = "attendance", key = "#id")
+    @Transactional
     public AttendanceDTO updateAttendance(Long id, AttendanceDTO attendanceDTO) {
-        Attendance attendance = attendanceRepository.findById(id).orElseThrow(() -> new AttendanceNotFoundException(" with id: " + id));
+        Attendance attendance = attendanceRepository.findForUpdateById(id).orElseThrow(() -> new AttendanceNotFoundException(" with id: " + id));
+        if (attendanceRepository.existsByUserIdAndCourseIdAndDateAndIdNot(attendanceDTO.getUserId(), attendanceDTO.getCourseId(), attendanceDTO.getDate(), id)) {
+            throw new ValidationException(Constants.ATTENDANCE_ALREADY_MARKED);
+        }
+        attendanceRollupService.record(attendance, -1);
+        Attendance previous = new Attendance(new AttendanceDTO(attendance));
 
         attendance.setUserId(attendanceDTO.getUserId());
         attendance.setCourseId(attendanceDTO.getCourseId());
@@ -79,18 +179,26 @@ public class AttendanceServiceImpl implements AttendanceService {
         attendance.setStatus(attendanceDTO.getStatus());
 
         attendance = attendanceRepository.save(attendance);
+        attendanceRollupService.record(attendance, 1);
+        eventPublisher.publishEvent(new AttendanceChangedEvent(List.of(previous), List.of(attendance)));
         return new AttendanceDTO(attendance);
     }
 
     /**
      * Deletes (unmarks) an attendance record by its ID.
+     * The record is locked while it is read, so it is removed from the rollup only once.
+     * The caches depending on the record are evicted once the transaction commits.
      *
      * @param id the ID of the attendance record to delete
      */
     @Override
-    @CacheEvict(value = "attendance", key = "#id")
+    @Transactional
     public void unMarkAttendance(Long id) {
-        attendanceRepository.deleteById(id);
+        attendanceRepository.findForUpdateById(id).ifPresent(attendance -> {
+            attendanceRepository.delete(attendance);
+            attendanceRollupService.record(attendance, -1);
+            eventPublisher.publishEvent(new AttendanceChangedEvent(List.of(attendance), List.of()));
+        });
     }
 
     /**
@@ -102,11 +210,9 @@ public class AttendanceServiceImpl implements AttendanceService {
      * @return list of attendance records as DTOs
      */
     @Override
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getAttendanceByStudentAndDate(Long studentId, LocalDate startDate, LocalDate endDate) {
-        List<Attendance> attendanceList = attendanceRepository.findByUserIdAndDateBetween(studentId, startDate, endDate);
-        return attendanceList.stream()
-                .map(AttendanceDTO::new)
-                .collect(Collectors.toList());
+        return attendanceRepository.findDtosByUserIdAndDateBetween(studentId, startDate, endDate);
     }
 
     /**
@@ -117,9 +223,9 @@ public class AttendanceServiceImpl implements AttendanceService {
      */
     @Override
     @Cacheable(value = "attendanceByStudent", key = "#userId")
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getAttendanceByStudent(Long userId) {
-        List<Attendance> attendanceList = attendanceRepository.findByUserId(userId);
-        return attendanceList.stream().map(AttendanceDTO::new).collect(Collectors.toList());
+        return attendanceRepository.findDtosByUserId(userId);
     }
 
     /**
@@ -130,9 +236,9 @@ public class AttendanceServiceImpl implements AttendanceService {
      */
     @Override
     @Cacheable(value = "attendanceByCourse", key = "#courseId")
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getAttendanceByCourse(Long courseId) {
-        List<Attendance> attendanceList = attendanceRepository.findByCourseId(courseId);
-        return attendanceList.stream().map(AttendanceDTO::new).collect(Collectors.toList());
+        return attendanceRepository.findDtosByCourseId(courseId);
     }
 
     /**
@@ -144,33 +250,108 @@ public class AttendanceServiceImpl implements AttendanceService {
      */
     @Override
     @Cacheable(value = "attendanceByStudentCourse", key = "#studentId + '_' + #courseId")
+    @Transactional(readOnly = true)
     public List<AttendanceDTO> getAttendanceByStudentAndCourse(Long studentId, Long courseId) {
-        List<Attendance> attendanceList = attendanceRepository.findByUserIdAndCourseId(studentId, courseId);
-        return attendanceList.stream().map(AttendanceDTO::new).collect(Collectors.toList());
+        return attendanceRepository.findDtosByUserIdAndCourseId(studentId, courseId);
     }
 
+    /**
+     * Summarises attendance per user, role and course over a date range.
+     * Whole months inside the range are read from the monthly rollup; only the partial
+     * months at the edges of the range are aggregated from the attendance table.
+     *
+     * @param fromDate first day of the range
+     * @param toDate   last day of the range
+     * @param courseId optional course filter
+     * @param role     optional role filter
+     * @return one summary row per user, role and course
+     */
     @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
     public List<AttendanceSummaryDTO> getAttendanceSummaryDTO(LocalDate fromDate, LocalDate toDate, Long courseId, String role) {
-        List<Object[]> rawData = attendanceRepository.getRawAttendanceSummary(fromDate, toDate, courseId, role);
-        List<AttendanceSummaryDTO> dtoList = new ArrayList<>();
-
-        for (Object[] row : rawData) {
-            Long userId = ((Number) row[0]).longValue();
-            String userRole = (String) row[1];
-            Long course = ((Number) row[2]).longValue();
-            Long total = ((Number) row[3]).longValue();
-            Long present = ((Number) row[4]).longValue();
+        LocalDate firstFullMonth = fromDate.getDayOfMonth() == 1 ? fromDate : fromDate.with(TemporalAdjusters.firstDayOfNextMonth());
+        LocalDate lastFullMonth = toDate.equals(toDate.with(TemporalAdjusters.lastDayOfMonth()))
+                ? toDate.withDayOfMonth(1) : toDate.withDayOfMonth(1).minusMonths(1);
 
-            dtoList.add(new AttendanceSummaryDTO(userId, userRole, course, total, present));
+        Map<List<Object>, long[]> totals = new LinkedHashMap<>();
+        if (firstFullMonth.isAfter(lastFullMonth)) {
+            addSummaryRows(totals, summarizeRaw(fromDate, toDate, courseId, role));
+        } else {
+            addSummaryRows(totals, attendanceRollupRepository.getRollupSummary(firstFullMonth, lastFullMonth, courseId, role));
+            if (fromDate.isBefore(firstFullMonth)) {
+                addSummaryRows(totals, summarizeRaw(fromDate, firstFullMonth.minusDays(1), courseId, role));
+            }
+            LocalDate afterFullMonths = lastFullMonth.plusMonths(1);
+            if (!toDate.isBefore(afterFullMonths)) {
+                addSummaryRows(totals, summarizeRaw(afterFullMonths, toDate, courseId, role));
+            }
         }
 
+        List<AttendanceSummaryDTO> dtoList = new ArrayList<>();
+        totals.forEach((key, counts) -> {
+            String userRole = Constants.ROLLUP_NO_ROLE.equals(key.get(1)) ? null : (String) key.get(1);
+            Long course = Constants.ROLLUP_NO_COURSE == (Long) key.get(2) ? null : (Long) key.get(2);
+            dtoList.add(new AttendanceSummaryDTO((Long) key.get(0), userRole, course, counts[0], counts[1]));
+        });
         return dtoList;
     }
 
+    /**
+     * Aggregates raw attendance rows of a date range with only the supplied filters as predicates.
+     */
+    private List<Object[]> summarizeRaw(LocalDate fromDate, LocalDate toDate, Long courseId, String role) {
+        return attendanceRepository.summarize(AttendanceSpecifications.matching(new AttendanceFilterDTO(fromDate, toDate, courseId, role)));
+    }
+
+    /**
+     * Searches attendance records by any combination of course, role, users, status and date range.
+     *
+     * @param filter   search criteria; unset criteria are ignored
+     * @param pageable pagination and sorting information
+     * @return a page of matching attendance records as DTOs
+     */
+    @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public Page<AttendanceDTO> searchAttendance(AttendanceFilterDTO filter, Pageable pageable) {
+        return attendanceRepository.findAll(AttendanceSpecifications.matching(filter), pageable).map(AttendanceDTO::new);
+    }
+
+    /**
+     * Adds summary rows of userId, role, courseId, total and present count to the running totals.
+     * A missing role or course is keyed the same way the rollup stores it.
+     */
+    private void addSummaryRows(Map<List<Object>, long[]> totals, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            Long userId = ((Number) row[0]).longValue();
+            String userRole = row[1] != null ? (String) row[1] : Constants.ROLLUP_NO_ROLE;
+            Long course = row[2] != null ? ((Number) row[2]).longValue() : Constants.ROLLUP_NO_COURSE;
+            long[] counts = totals.computeIfAbsent(Arrays.asList(userId, userRole, course), key -> new long[2]);
+            counts[0] += ((Number) row[3]).longValue();
+            counts[1] += ((Number) row[4]).longValue();
+        }
+    }
+
     @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
     public Page<AttendanceDTO> getAllAttendance(Pageable pageable) {
-        return attendanceRepository.findAll(pageable)
-                .map(AttendanceDTO::new); // Convert each Attendance entity to AttendanceDTO
+        return attendanceRepository.findAllDtos(pageable);
+    }
+
+    /**
+     * Retrieves all attendance records using keyset pagination on the ID.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of AttendanceDTOs with the cursor for the next page
+     */
+    @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public CursorPageDTO<AttendanceDTO> getAllAttendance(int limit, String cursor, boolean ascending) {
+        Long seekId = CursorUtil.seekId(cursor, ascending);
+        Pageable window = CursorUtil.seekWindow(limit, ascending);
+        Slice<AttendanceDTO> slice = ascending ? attendanceRepository.findByIdGreaterThan(seekId, window) : attendanceRepository.findByIdLessThan(seekId, window);
+        return CursorUtil.toCursorPage(slice, AttendanceDTO::getId);
     }
 
 }
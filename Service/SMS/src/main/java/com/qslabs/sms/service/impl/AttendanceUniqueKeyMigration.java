@@ -0,0 +1,75 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.model.Attendance;
+import com.qslabs.sms.repository.AttendanceBatchRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Creates the unique key of the attendance table, which roll call upserts conflict on.
+ * Runs once the schema scripts have run and before the application serves requests.
+ * Duplicate rows from before the key existed are never removed silently: startup fails listing
+ * them, unless {@code sms.attendance.unique-key.remove-duplicates} is set, in which case all but
+ * the latest row of each duplicate are deleted and logged. The rollup check at startup then
+ * rebuilds the summary buckets.
+ */
+@Component
+@DependsOnDatabaseInitialization
+public class AttendanceUniqueKeyMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceUniqueKeyMigration.class);
+
+    private static final int LISTED_DUPLICATES = 20;
+
+    @Autowired
+    private AttendanceBatchRepository attendanceBatchRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${sms.attendance.unique-key.remove-duplicates:false}")
+    private boolean removeDuplicates;
+
+    /**
+     * Creates the key unless it exists.
+     *
+     * @throws IllegalStateException if duplicate rows exist and removing them is not enabled
+     */
+    @PostConstruct
+    public void migrate() {
+        if (attendanceBatchRepository.hasUniqueKey()) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            attendanceBatchRepository.lockForUniqueKey();
+            if (attendanceBatchRepository.hasUniqueKey()) {
+                return;
+            }
+            List<String> duplicates = attendanceBatchRepository.findDuplicateKeys(LISTED_DUPLICATES);
+            if (!duplicates.isEmpty()) {
+                if (!removeDuplicates) {
+                    throw new IllegalStateException("Cannot create the attendance unique key, duplicate rows exist. Review them and"
+                            + " start once with sms.attendance.unique-key.remove-duplicates=true to keep only the latest row of each:\n"
+                            + String.join("\n", duplicates));
+                }
+                List<Attendance> removed = attendanceBatchRepository.deleteDuplicates();
+                for (Attendance row : removed) {
+                    log.warn("Removed duplicate attendance {}: user {}, course {}, date {}, role {}, status {}",
+                            row.getId(), row.getUserId(), row.getCourseId(), row.getDate(), row.getRole(), row.getStatus());
+                }
+                log.warn("Removed {} duplicate attendance rows before creating the unique key", removed.size());
+            }
+            attendanceBatchRepository.createUniqueKey();
+            log.info("Created attendance unique key");
+        });
+    }
+}
@@ -1,17 +1,27 @@
 package com.qslabs.sms.service.impl;
 
 import com.qslabs.sms.dto.CourseAssignDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.exception.CourseAssignException;
 import com.qslabs.sms.model.CourseAssign;
 import com.qslabs.sms.repository.CourseAssignRepository;
 import com.qslabs.sms.service.CourseAssignService;
+import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Service implementation for managing course assignments.
@@ -30,8 +40,26 @@ public class CourseAssignServiceImpl implements CourseAssignService {
      * @return a paginated list of CourseAssignDTOs
      */
     @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
     public Page<CourseAssignDTO> getAllCoursesAssignment(Pageable pageable){
-        return courseAssignRepository.findAll(pageable).map(CourseAssignDTO::new);
+        return courseAssignRepository.findAllDtos(pageable);
+    }
+
+    /**
+     * Retrieves all course assignments using keyset pagination on the ID.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of CourseAssignDTOs with the cursor for the next page
+     */
+    @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public CursorPageDTO<CourseAssignDTO> getAllCoursesAssignment(int limit, String cursor, boolean ascending) {
+        Long seekId = CursorUtil.seekId(cursor, ascending);
+        Pageable window = CursorUtil.seekWindow(limit, ascending);
+        Slice<CourseAssignDTO> slice = ascending ? courseAssignRepository.findByIdGreaterThan(seekId, window) : courseAssignRepository.findByIdLessThan(seekId, window);
+        return CursorUtil.toCursorPage(slice, CourseAssignDTO::getId);
     }
 
     /**
@@ -43,6 +71,7 @@ public class CourseAssignServiceImpl implements CourseAssignService {
      */
     @Override
     @Cacheable(value = "courseAssign", key = "#id")
+    @Transactional(readOnly = true)
     public CourseAssignDTO getCourseAssign(Long id){
         CourseAssign courseAssign = courseAssignRepository.findById(id)
                 .orElseThrow(() -> new CourseAssignException(" with id " + id));
@@ -56,8 +85,10 @@ public class CourseAssignServiceImpl implements CourseAssignService {
      * @return the newly created CourseAssignDTO
      */
     @Override
-    @CachePut(value = "courseAssign", key = "#result.id")
-    @CacheEvict(value = "userCourseCount", key = "#courseAssignDTO.userId")
+    @Caching(put = @CachePut(value = "courseAssign", key = "#result.id"), evict = {
+            @CacheEvict(value = { "userCourseCount", "userCourseAssigns" }, key = "#courseAssignDTO.userId"),
+            @CacheEvict(value = "userTimetables", allEntries = true)
+    })
     public CourseAssignDTO createCourseAssign(CourseAssignDTO courseAssignDTO){
         CourseAssign courseAssign = new CourseAssign(courseAssignDTO);
         courseAssign = courseAssignRepository.save(courseAssign);
@@ -73,8 +104,10 @@ public class CourseAssignServiceImpl implements CourseAssignService {
      * @throws CourseAssignException if assignment not found
      */
     @Override
-    @CachePut(value = "courseAssign", key = "#id")
-    @CacheEvict(value = "userCourseCount", key = "#courseAssignDTO.userId")
+    @Caching(put = @CachePut(value = "courseAssign", key = "#id"), evict = {
+            @CacheEvict(value = "userCourseCount", key = "#courseAssignDTO.userId"),
+            @CacheEvict(value = { "userCourseAssigns", "userTimetables" }, allEntries = true)
+    })
     public CourseAssignDTO updateCourseAssign(Long id, CourseAssignDTO courseAssignDTO){
         CourseAssign courseAssign = courseAssignRepository.findById(id).orElseThrow(() -> new CourseAssignException(" with id " + id));
 
@@ -93,7 +126,10 @@ public class CourseAssignServiceImpl implements CourseAssignService {
      * @throws CourseAssignException if assignment does not exist
      */
     @Override
-    @CacheEvict(value = { "courseAssign", "userCourseCount" }, key = "#id", allEntries = false)
+    @Caching(evict = {
+            @CacheEvict(value = { "courseAssign", "userCourseCount" }, key = "#id", allEntries = false),
+            @CacheEvict(value = { "userCourseAssigns", "userTimetables" }, allEntries = true)
+    })
     public void deleteCourseAssign(Long id){
         if (!courseAssignRepository.existsById(id)) {
             throw new CourseAssignException(" with id " + id);
@@ -103,7 +139,66 @@ public class CourseAssignServiceImpl implements CourseAssignService {
 
     @Override
     @Cacheable(value = "userCourseCount", key = "#userId")
+    @Transactional(readOnly = true)
     public Long getAssignedCourseCountByUser(Long userId) {
         return courseAssignRepository.getAssignedCourseCountByUserId(userId);
     }
+
+    /**
+     * Retrieves all assignments of a user.
+     * Cached per user; the list is small and read on every dashboard load.
+     *
+     * @param userId ID of the user
+     * @return list of CourseAssignDTOs ordered by ID
+     */
+    @Override
+    @Cacheable(value = "userCourseAssigns", key = "#userId")
+    @Transactional(readOnly = true)
+    public List<CourseAssignDTO> getCourseAssignsByUser(Long userId) {
+        return courseAssignRepository.findDtosByUserId(userId);
+    }
+
+    /**
+     * Retrieves the assignments of a course, one page at a time.
+     *
+     * @param courseId ID of the course
+     * @param pageable pagination and sorting information
+     * @return a page of CourseAssignDTOs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CourseAssignDTO> getCourseAssignsByCourse(Long courseId, Pageable pageable) {
+        return courseAssignRepository.findDtosByCourseId(courseId, pageable);
+    }
+
+    /**
+     * Retrieves the assignments of a course using keyset pagination on the ID.
+     *
+     * @param courseId ID of the course
+     * @param limit    maximum number of results
+     * @param cursor   cursor of the previous page, or null for the first page
+     * @return page of CourseAssignDTOs with the cursor for the next page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CourseAssignDTO> getCourseAssignsByCourse(Long courseId, int limit, String cursor) {
+        Slice<CourseAssignDTO> slice = courseAssignRepository.findDtosByCourseIdAndIdGreaterThan(courseId,
+                CursorUtil.seekId(cursor, true), CursorUtil.seekWindow(limit, true));
+        return CursorUtil.toCursorPage(slice, CourseAssignDTO::getId);
+    }
+
+    /**
+     * Retrieves all assignments for the given courses.
+     *
+     * @param courseIds IDs of the courses
+     * @return list of CourseAssignDTOs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseAssignDTO> getCourseAssignsByCourseIds(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return courseAssignRepository.findDtosByCourseIdIn(courseIds);
+    }
 }
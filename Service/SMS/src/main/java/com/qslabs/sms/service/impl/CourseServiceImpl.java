@@ -1,17 +1,22 @@
 package com.qslabs.sms.service.impl;
 
 import com.qslabs.sms.dto.CourseDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.exception.CourseAssignException;
 import com.qslabs.sms.model.Course;
 import com.qslabs.sms.repository.CourseRepository;
 import com.qslabs.sms.service.CourseService;
+import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of the CourseService interface.
@@ -31,8 +36,26 @@ public class CourseServiceImpl implements CourseService {
      * @return paginated list of CourseDTOs
      */
     @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
     public Page<CourseDTO> getAllCourses(Pageable pageable) {
-        return courseRepository.findAll(pageable).map(CourseDTO::new);
+        return courseRepository.findAllDtos(pageable);
+    }
+
+    /**
+     * Retrieves all courses using keyset pagination on the ID.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of CourseDTOs with the cursor for the next page
+     */
+    @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public CursorPageDTO<CourseDTO> getAllCourses(int limit, String cursor, boolean ascending) {
+        Long seekId = CursorUtil.seekId(cursor, ascending);
+        Pageable window = CursorUtil.seekWindow(limit, ascending);
+        Slice<CourseDTO> slice = ascending ? courseRepository.findByIdGreaterThan(seekId, window) : courseRepository.findByIdLessThan(seekId, window);
+        return CursorUtil.toCursorPage(slice, CourseDTO::getId);
     }
 
     /**
@@ -44,6 +67,7 @@ public class CourseServiceImpl implements CourseService {
      */
     @Override
     @Cacheable(value = "course", key = "#id")
+    @Transactional(readOnly = true)
     public CourseDTO getCourseById(Long id) {
         Course course = courseRepository.findById(id)
                 .orElseThrow(() -> new CourseAssignException(" with id " + id));
@@ -106,6 +130,7 @@ public class CourseServiceImpl implements CourseService {
 
     @Override
     @Cacheable("courseCount")
+    @Transactional(readOnly = true)
     public Long getCourseCount() {
         return courseRepository.count();
     }
@@ -0,0 +1,133 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.dto.AdminDashboardDTO;
+import com.qslabs.sms.dto.AttendanceSummaryDTO;
+import com.qslabs.sms.dto.CourseAssignDTO;
+import com.qslabs.sms.dto.CourseDTO;
+import com.qslabs.sms.dto.TimeTableDTO;
+import com.qslabs.sms.service.AttendanceService;
+import com.qslabs.sms.service.CourseAssignService;
+import com.qslabs.sms.service.CourseService;
+import com.qslabs.sms.service.DashboardService;
+import com.qslabs.sms.service.StudentService;
+import com.qslabs.sms.service.TeacherService;
+import com.qslabs.sms.service.TimeTableService;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the DashboardService interface.
+ * Fans out to the domain services in parallel and caches the combined result briefly.
+ */
+@Service
+public class DashboardServiceImpl implements DashboardService {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseAssignService courseAssignService;
+
+    @Autowired
+    private TimeTableService timeTableService;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    @Qualifier(Constants.DASHBOARD_EXECUTOR)
+    private Executor dashboardExecutor;
+
+    /**
+     * Builds the admin dashboard payload.
+     * Counts, today's classes, featured courses and the attendance summary are loaded in parallel;
+     * the assignments and teachers of the featured courses are loaded once those courses are known.
+     *
+     * @return AdminDashboardDTO for the admin dashboard
+     */
+    @Override
+    @Cacheable(value = "adminDashboard", key = "'admin'")
+    public AdminDashboardDTO getAdminDashboard() {
+        LocalDate today = LocalDate.now();
+
+        CompletableFuture<Long> studentCount = async(studentService::getStudentCount);
+        CompletableFuture<Long> teacherCount = async(teacherService::getTeacherCount);
+        CompletableFuture<Long> courseCount = async(courseService::getCourseCount);
+        CompletableFuture<Long> todayClassCount = async(timeTableService::getTodayClassCount);
+        CompletableFuture<List<TimeTableDTO>> todayClasses = async(() ->
+                timeTableService.getTimeTablesByDate(today, Constants.DASHBOARD_TOP_N));
+        CompletableFuture<List<AttendanceSummaryDTO>> summary = async(() ->
+                attendanceService.getAttendanceSummaryDTO(today.withDayOfYear(1), today.withDayOfYear(today.lengthOfYear()), null, null));
+        CompletableFuture<List<CourseDTO>> featuredCourses = async(() ->
+                new ArrayList<>(courseService.getAllCourses(PageRequest.of(0, Constants.DASHBOARD_TOP_N, Sort.by("id"))).getContent()));
+        CompletableFuture<List<CourseAssignDTO>> courseAssigns = featuredCourses.thenApplyAsync(courses ->
+                courseAssignService.getCourseAssignsByCourseIds(courses.stream().map(CourseDTO::getId).collect(Collectors.toList())), dashboardExecutor);
+
+        AdminDashboardDTO dashboard = new AdminDashboardDTO();
+        dashboard.setStudentCount(join(studentCount));
+        dashboard.setTeacherCount(join(teacherCount));
+        dashboard.setCourseCount(join(courseCount));
+        dashboard.setTodayClassCount(join(todayClassCount));
+        dashboard.setTodayClasses(join(todayClasses));
+        dashboard.setFeaturedCourses(join(featuredCourses));
+
+        List<CourseAssignDTO> assigns = join(courseAssigns);
+        dashboard.setCourseAssigns(assigns);
+        dashboard.setTeachers(teacherService.getTeachersByUserIds(assigns.stream()
+                .filter(assign -> "TEACHER".equals(assign.getRole()))
+                .map(CourseAssignDTO::getUserId)
+                .distinct()
+                .collect(Collectors.toList())));
+
+        long present = 0;
+        long absent = 0;
+        for (AttendanceSummaryDTO row : join(summary)) {
+            present += row.getPresentCount();
+            absent += row.getAbsentCount();
+        }
+        dashboard.setPresentCount(present);
+        dashboard.setAbsentCount(absent);
+        return dashboard;
+    }
+
+    /**
+     * Runs a supplier on the dashboard executor.
+     */
+    private <T> CompletableFuture<T> async(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, dashboardExecutor);
+    }
+
+    /**
+     * Waits for a future and rethrows the original exception of a failed call.
+     */
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.exception.LoginBusyException;
+import com.qslabs.sms.service.PasswordVerificationService;
+import com.qslabs.sms.util.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Implementation of the PasswordVerificationService interface.
+ * Checks run on the login executor, whose queue holds only a few checks per thread. A full queue
+ * or a check that does not finish within {@code sms.login.wait-timeout} fails fast with a 503, so
+ * a login burst cannot hold the request threads the rest of the API needs.
+ * Records the hashing time, the time spent queued, the queue depth and the number of refused checks.
+ */
+@Service
+public class PasswordVerificationServiceImpl implements PasswordVerificationService {
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    @Qualifier(Constants.LOGIN_EXECUTOR)
+    private ThreadPoolTaskExecutor loginExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${sms.login.wait-timeout:1s}")
+    private Duration waitTimeout;
+
+    private String dummyHash;
+    private Timer verifyTimer;
+    private Timer queueWaitTimer;
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    void init() {
+        dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+        verifyTimer = Timer.builder("sms.login.verify").description("Time spent hashing login passwords").register(meterRegistry);
+        queueWaitTimer = Timer.builder("sms.login.queue.wait").description("Time login checks wait for a thread").register(meterRegistry);
+        rejectedCounter = Counter.builder("sms.login.rejected").description("Login checks refused because the pool was saturated").register(meterRegistry);
+        Gauge.builder("sms.login.queue.depth", loginExecutor, executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("Login checks waiting for a thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        String hash = encodedPassword != null ? encodedPassword : dummyHash;
+        long submitted = System.nanoTime();
+        Future<Boolean> result;
+        try {
+            result = loginExecutor.submit(() -> {
+                long started = System.nanoTime();
+                queueWaitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                boolean matches = passwordEncoder.matches(rawPassword, hash);
+                verifyTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                return matches;
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw new LoginBusyException();
+        }
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS) && encodedPassword != null;
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginBusyException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new LoginBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
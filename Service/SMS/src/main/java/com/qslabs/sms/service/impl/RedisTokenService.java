@@ -1,48 +1,113 @@
 package com.qslabs.sms.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qslabs.sms.config.TokenCache;
 import com.qslabs.sms.dto.AuthDTO;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Stores session tokens in Redis with a sliding expiry.
+ * Each lookup validates the token, reads its data and extends its lifetime in a single GETEX,
+ * so active users stay signed in and idle sessions expire after the configured time.
+ */
 @Service
 public class RedisTokenService {
 
     @Autowired
     private StringRedisTemplate redisTemplate;
 
-    private static final long EXPIRATION = 60 * 60; // 60 minutes
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private TokenCache tokenCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${sms.token.ttl:60m}")
+    private Duration ttl;
 
     public void saveToken(String token,String username , Long userId,String role) {
         try {
             AuthDTO tokenData = new AuthDTO(token,username,userId,role);
             String value = objectMapper.writeValueAsString(tokenData);
-            redisTemplate.opsForValue().set(token, value, Duration.ofSeconds(EXPIRATION));
+            redisTemplate.opsForValue().set(token, value, ttl);
         } catch (Exception e) {
             throw new RuntimeException("Failed to save token", e);
         }
     }
 
+    /**
+     * Reads the data of a token and restarts its expiry in one round trip.
+     *
+     * @param token session token
+     * @return token data, or null if the token is unknown or expired
+     */
     public AuthDTO getTokenData(String token) {
         try {
-            String value = redisTemplate.opsForValue().get(token);
-            return objectMapper.readValue(value, AuthDTO.class);
+            return parse(redisTemplate.opsForValue().getAndExpire(token, ttl));
         } catch (Exception e) {
             return null;
         }
     }
 
+    /**
+     * Reads the data of several tokens and restarts their expiry in one pipelined round trip.
+     *
+     * @param tokens session tokens
+     * @return token data in the order of the tokens, with null for unknown or expired tokens
+     */
+    public List<AuthDTO> getTokenData(List<String> tokens) {
+        Expiration expiration = Expiration.from(ttl);
+        List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String token : tokens) {
+                connection.stringCommands().getEx(token.getBytes(StandardCharsets.UTF_8), expiration);
+            }
+            return null;
+        });
+        List<AuthDTO> result = new ArrayList<>(values.size());
+        for (Object value : values) {
+            AuthDTO data;
+            try {
+                data = parse((String) value);
+            } catch (JsonProcessingException e) {
+                data = null;
+            }
+            result.add(data);
+        }
+        return result;
+    }
+
     public boolean isValid(String token) {
-        return redisTemplate.hasKey(token);
+        return getTokenData(token) != null;
+    }
+
+    /**
+     * Resolves a token through the in-process near-cache, falling back to Redis on a miss.
+     * The near-cache holds tokens for much less than their expiry, so active sessions keep sliding.
+     *
+     * @param token session token
+     * @return cached token data with authorities, or null if the token is not valid
+     */
+    public TokenCache.Entry getCachedTokenData(String token) {
+        return tokenCache.get(token, this::getTokenData);
     }
 
     public void deleteToken(String token) {
         redisTemplate.delete(token);
+        tokenCache.invalidate(token);
     }
-}
 
+    private AuthDTO parse(String value) throws JsonProcessingException {
+        return value == null ? null : objectMapper.readValue(value, AuthDTO.class);
+    }
+}
@@ -0,0 +1,333 @@
+package com.qslabs.sms.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.qslabs.sms.dto.ImportReportDTO;
+import com.qslabs.sms.dto.StudentImportRowDTO;
+import com.qslabs.sms.exception.ImportBusyException;
+import com.qslabs.sms.exception.ValidationException;
+import com.qslabs.sms.model.Student;
+import com.qslabs.sms.model.User;
+import com.qslabs.sms.repository.StudentImportRepository;
+import com.qslabs.sms.repository.UserRepository;
+import com.qslabs.sms.service.StudentImportService;
+import com.qslabs.sms.util.Constants;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the StudentImportService interface.
+ * Rows are read and validated first; the passwords of the valid rows are then hashed in parallel
+ * on the import executor. Only the bulk writes of users and students share a transaction, so no
+ * connection is held while the file is parsed or the passwords are hashed.
+ */
+@Service
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private static final char QUOTE = '"';
+    private static final char SEPARATOR = ',';
+
+    @Autowired
+    private StudentImportRepository studentImportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier(Constants.IMPORT_HASH_EXECUTOR)
+    private ThreadPoolTaskExecutor importHashExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${sms.import.max-rows:20000}")
+    private int maxRows;
+
+    @Override
+    @CacheEvict(value = "studentCount", allEntries = true)
+    public ImportReportDTO importStudents(InputStream in, Format format) throws IOException {
+        ImportReportDTO report = new ImportReportDTO();
+        Map<Integer, StudentImportRowDTO> rows = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            readCsv(reader, rows, report);
+        } else {
+            readNdjson(reader, rows, report);
+        }
+        report.setTotalRows(rows.size() + report.getErrors().size());
+
+        validate(rows, report);
+        if (!rows.isEmpty()) {
+            write(rows, report);
+        }
+        report.getErrors().sort(Comparator.comparingInt(ImportReportDTO.RowError::getRow));
+        return report;
+    }
+
+    /**
+     * Hashes the passwords of the valid rows, then writes their users and students in one transaction.
+     */
+    private void write(Map<Integer, StudentImportRowDTO> rows, ImportReportDTO report) {
+        List<Integer> rowNumbers = new ArrayList<>(rows.keySet());
+        List<StudentImportRowDTO> valid = new ArrayList<>(rows.values());
+        List<User> users = new ArrayList<>(valid.size());
+        List<String> hashes = hashPasswords(valid);
+        for (int i = 0; i < valid.size(); i++) {
+            StudentImportRowDTO row = valid.get(i);
+            User user = new User();
+            user.setUsername(row.getUsername());
+            user.setEmail(row.getEmail());
+            user.setPassword(hashes.get(i));
+            user.setRole(Constants.STUDENT_ROLE);
+            users.add(user);
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Map<String, Long> userIds = studentImportRepository.insertUsers(users);
+            List<Student> students = new ArrayList<>(userIds.size());
+            for (int i = 0; i < valid.size(); i++) {
+                StudentImportRowDTO row = valid.get(i);
+                Long userId = userIds.get(row.getUsername());
+                if (userId == null) {
+                    // taken by a user created while the import ran
+                    report.addError(rowNumbers.get(i), row.getUsername(), Constants.IMPORT_USERNAME_TAKEN);
+                    continue;
+                }
+                students.add(new Student(userId, row.getFirstName(), row.getLastName(), row.getDateOfBirth(), row.getGender(),
+                        row.getAddress(), row.getContactNumber(), row.getNationality()));
+            }
+            studentImportRepository.insertStudents(students);
+            report.setImportedRows(students.size());
+        });
+    }
+
+    /**
+     * Hashes the passwords of the rows on the import executor, one chunk of rows per thread, in row order.
+     *
+     * @throws ImportBusyException if the executor queue cannot take the chunks
+     */
+    private List<String> hashPasswords(List<StudentImportRowDTO> rows) {
+        int chunkSize = Math.max(1, (rows.size() + importHashExecutor.getMaxPoolSize() - 1) / importHashExecutor.getMaxPoolSize());
+        List<Future<List<String>>> chunks = new ArrayList<>();
+        try {
+            for (int from = 0; from < rows.size(); from += chunkSize) {
+                List<StudentImportRowDTO> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+                chunks.add(importHashExecutor.submit(() -> chunk.stream()
+                        .map(row -> passwordEncoder.encode(row.getPassword()))
+                        .collect(Collectors.toList())));
+            }
+        } catch (TaskRejectedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new ImportBusyException();
+        }
+        List<String> hashes = new ArrayList<>(rows.size());
+        try {
+            for (Future<List<String>> chunk : chunks) {
+                hashes.addAll(chunk.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException(e.getCause());
+        }
+        return hashes;
+    }
+
+    /**
+     * Removes rows that miss a required field or reuse a username of the file or of an existing user.
+     */
+    private void validate(Map<Integer, StudentImportRowDTO> rows, ImportReportDTO report) {
+        Set<String> seen = new HashSet<>();
+        rows.entrySet().removeIf(entry -> {
+            StudentImportRowDTO row = entry.getValue();
+            String missing = missingField(row);
+            if (missing != null) {
+                report.addError(entry.getKey(), row.getUsername(), Constants.IMPORT_MISSING_FIELD + missing);
+                return true;
+            }
+            if (!seen.add(row.getUsername())) {
+                report.addError(entry.getKey(), row.getUsername(), Constants.IMPORT_DUPLICATE_USERNAME);
+                return true;
+            }
+            return false;
+        });
+
+        List<String> usernames = new ArrayList<>(seen);
+        Set<String> taken = new HashSet<>();
+        for (int from = 0; from < usernames.size(); from += Constants.IMPORT_BATCH_SIZE) {
+            taken.addAll(userRepository.findExistingUsernames(usernames.subList(from, Math.min(from + Constants.IMPORT_BATCH_SIZE, usernames.size()))));
+        }
+        rows.entrySet().removeIf(entry -> {
+            if (taken.contains(entry.getValue().getUsername())) {
+                report.addError(entry.getKey(), entry.getValue().getUsername(), Constants.IMPORT_USERNAME_TAKEN);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static String missingField(StudentImportRowDTO row) {
+        if (isBlank(row.getUsername())) {
+            return "username";
+        }
+        if (isBlank(row.getPassword())) {
+            return "password";
+        }
+        if (isBlank(row.getFirstName())) {
+            return "firstName";
+        }
+        if (isBlank(row.getLastName())) {
+            return "lastName";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private void readNdjson(BufferedReader reader, Map<Integer, StudentImportRowDTO> rows, ImportReportDTO report) throws IOException {
+        int rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            checkRowLimit(++rowNumber);
+            try {
+                rows.put(rowNumber, objectMapper.readValue(line, StudentImportRowDTO.class));
+            } catch (JsonProcessingException e) {
+                report.addError(rowNumber, null, Constants.IMPORT_UNREADABLE_ROW);
+            }
+        }
+    }
+
+    /**
+     * Reads CSV rows named by the header row. Fields may be quoted, with doubled quotes inside quoted fields.
+     */
+    private void readCsv(BufferedReader reader, Map<Integer, StudentImportRowDTO> rows, ImportReportDTO report) throws IOException {
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            return;
+        }
+        int rowNumber = 0;
+        List<String> fields;
+        while ((fields = readCsvRecord(reader)) != null) {
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            checkRowLimit(++rowNumber);
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < header.size() && i < fields.size(); i++) {
+                String value = fields.get(i).trim();
+                values.put(header.get(i).trim(), value.isEmpty() ? null : value);
+            }
+            StudentImportRowDTO row = new StudentImportRowDTO();
+            row.setUsername(values.get("username"));
+            row.setEmail(values.get("email"));
+            row.setPassword(values.get("password"));
+            row.setFirstName(values.get("firstName"));
+            row.setLastName(values.get("lastName"));
+            row.setGender(values.get("gender"));
+            row.setAddress(values.get("address"));
+            row.setContactNumber(values.get("contactNumber"));
+            row.setNationality(values.get("nationality"));
+            try {
+                String dateOfBirth = values.get("dateOfBirth");
+                row.setDateOfBirth(dateOfBirth != null ? LocalDate.parse(dateOfBirth) : null);
+            } catch (DateTimeParseException e) {
+                report.addError(rowNumber, row.getUsername(), Constants.IMPORT_INVALID_DATE_OF_BIRTH);
+                continue;
+            }
+            rows.put(rowNumber, row);
+        }
+    }
+
+    /**
+     * Reads one CSV record, which may span lines inside a quoted field.
+     *
+     * @return the fields of the record, or null at the end of the input
+     */
+    private static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                        field.append(QUOTE);
+                        i++;
+                    } else if (c == QUOTE) {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == QUOTE) {
+                    quoted = true;
+                } else if (c == SEPARATOR) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void checkRowLimit(int rowNumber) {
+        if (rowNumber > maxRows) {
+            throw new ValidationException(Constants.IMPORT_TOO_MANY_ROWS + maxRows);
+        }
+    }
+}
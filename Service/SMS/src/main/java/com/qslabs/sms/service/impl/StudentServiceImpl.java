@@ -1,17 +1,22 @@
 package com.qslabs.sms.service.impl;
 
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.dto.StudentDTO;
 import com.qslabs.sms.model.Student;
 import com.qslabs.sms.repository.StudentRepository;
 import com.qslabs.sms.service.StudentService;
+import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of the StudentService interface.
@@ -52,21 +57,44 @@ public class StudentServiceImpl implements StudentService {
     }
 
     /**
-     * Retrieves a paginated list of students.
+     * Retrieves a page of students using keyset pagination.
+     * One extra row is fetched to find out whether another page exists.
      *
      * @param limit  maximum number of results
-     * @param offset number of records to skip
-     * @return list of StudentDTOs
+     * @param cursor cursor of the previous page, or null for the first page
+     * @param sortBy "lastName" to sort by last name, otherwise sorted by student ID
+     * @return page of StudentDTOs with the cursor for the next page
      */
     @Override
-    public List<StudentDTO> getAllStudents(int limit, int offset) {
-        List<Student> students = studentRepository.findAll().stream()
-                .skip(offset)
-                .limit(limit)
-                .toList();
-        return students.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public CursorPageDTO<StudentDTO> getAllStudents(int limit, String cursor, String sortBy) {
+        int pageSize = CursorUtil.clampLimit(limit);
+        Pageable window = PageRequest.of(0, pageSize + 1);
+        boolean byLastName = Constants.SORT_LAST_NAME.equals(sortBy);
+
+        List<StudentDTO> students;
+        if (byLastName) {
+            if (cursor == null || cursor.isBlank()) {
+                students = studentRepository.findFirstPageByLastName(window);
+            } else {
+                String[] key = CursorUtil.decode(cursor, 2);
+                students = studentRepository.findNextPageByLastName(key[0], CursorUtil.toId(key[1]), window);
+            }
+        } else {
+            Long afterId = (cursor == null || cursor.isBlank()) ? 0L : CursorUtil.decodeId(cursor);
+            students = studentRepository.findDtosAfterId(afterId, window);
+        }
+
+        String nextCursor = null;
+        if (students.size() > pageSize) {
+            students = students.subList(0, pageSize);
+            StudentDTO last = students.get(pageSize - 1);
+            nextCursor = byLastName
+                    ? CursorUtil.encode(last.getLastName() == null ? "" : last.getLastName(), last.getStudentId())
+                    : CursorUtil.encode(last.getStudentId());
+        }
+
+        return new CursorPageDTO<>(students, nextCursor);
     }
 
     /**
@@ -77,6 +105,7 @@ public class StudentServiceImpl implements StudentService {
      */
     @Override
     @Cacheable(value = "students", key = "#id")
+    @Transactional(readOnly = true)
     public StudentDTO getStudentById(Long id) {
         Optional<Student> student = studentRepository.findById(id);
         return student.map(this::convertToDTO).orElse(null);
@@ -132,6 +161,7 @@ public class StudentServiceImpl implements StudentService {
 
     @Override
     @Cacheable("studentCount")
+    @Transactional(readOnly = true)
     public Long getStudentCount() {
         return studentRepository.getStudentCount();
     }
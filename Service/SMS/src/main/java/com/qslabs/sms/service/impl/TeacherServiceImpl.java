@@ -1,17 +1,26 @@
 package com.qslabs.sms.service.impl;
 
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.dto.TeacherDTO;
 import com.qslabs.sms.exception.TeacherNotFoundException;
 import com.qslabs.sms.model.Teacher;
 import com.qslabs.sms.repository.TeacherRepository;
 import com.qslabs.sms.service.TeacherService;
+import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 // Todo
 // change this class to interface
 // Create new class teacherserviceimpl to implement methods add move code
@@ -33,8 +42,26 @@ public class TeacherServiceImpl implements TeacherService {
      * @return paginated list of TeacherDTOs
      */
     @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
     public Page<TeacherDTO> getAllTeachers(Pageable pageable) {
-        return teacherRepository.findAll(pageable).map(TeacherDTO::new);
+        return teacherRepository.findAllDtos(pageable);
+    }
+
+    /**
+     * Retrieves all teachers using keyset pagination on the ID.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of TeacherDTOs with the cursor for the next page
+     */
+    @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public CursorPageDTO<TeacherDTO> getAllTeachers(int limit, String cursor, boolean ascending) {
+        Long seekId = CursorUtil.seekId(cursor, ascending);
+        Pageable window = CursorUtil.seekWindow(limit, ascending);
+        Slice<TeacherDTO> slice = ascending ? teacherRepository.findByIdGreaterThan(seekId, window) : teacherRepository.findByIdLessThan(seekId, window);
+        return CursorUtil.toCursorPage(slice, TeacherDTO::getId);
     }
 
     /**
@@ -46,6 +73,7 @@ public class TeacherServiceImpl implements TeacherService {
      */
     @Override
     @Cacheable(value = "teacherByUser", key = "#id")
+    @Transactional(readOnly = true)
     public TeacherDTO getTeacherByUserId(Long id) {
         Teacher teacher = teacherRepository.findByUserId(id)
                 .orElseThrow(TeacherNotFoundException::new);
@@ -61,6 +89,7 @@ public class TeacherServiceImpl implements TeacherService {
      */
     @Override
     @Cacheable(value = "teacher", key = "#id")
+    @Transactional(readOnly = true)
     public TeacherDTO getTeacherById(Long id) {
         Teacher teacher = teacherRepository.findById(id)
                 .orElseThrow(TeacherNotFoundException::new);
@@ -127,7 +156,23 @@ public class TeacherServiceImpl implements TeacherService {
 
     @Override
     @Cacheable("teacherCount")
+    @Transactional(readOnly = true)
     public Long getTeacherCount() {
         return teacherRepository.getTeacherCount();
     }
+
+    /**
+     * Retrieves the teachers linked to the given user IDs.
+     *
+     * @param userIds teacher user IDs
+     * @return list of TeacherDTOs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeacherDTO> getTeachersByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return teacherRepository.findDtosByUserIdIn(userIds);
+    }
 }
@@ -1,19 +1,33 @@
 package com.qslabs.sms.service.impl;
 
+import com.qslabs.sms.dto.CourseAssignDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.dto.TimeTableDTO;
 import com.qslabs.sms.exception.TimetableNotFoundException;
+import com.qslabs.sms.exception.ValidationException;
 import com.qslabs.sms.model.TimeTable;
 import com.qslabs.sms.repository.TimeTableRepository;
+import com.qslabs.sms.service.CourseAssignService;
 import com.qslabs.sms.service.TimeTableService;
+import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the TimeTableService interface.
@@ -25,6 +39,9 @@ public class TimeTableServiceImpl implements TimeTableService {
     @Autowired
     private  TimeTableRepository repository;
 
+    @Autowired
+    private CourseAssignService courseAssignService;
+
 
     /**
      * Retrieves all timetable entries with pagination.
@@ -33,8 +50,26 @@ public class TimeTableServiceImpl implements TimeTableService {
      * @return paginated list of TimeTableDTOs
      */
     @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
     public Page<TimeTableDTO> getAllTimeTables(Pageable pageable) {
-        return repository.findAll(pageable).map(TimeTableDTO::new);
+        return repository.findAllDtos(pageable);
+    }
+
+    /**
+     * Retrieves all timetable entries using keyset pagination on the ID.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of TimeTableDTOs with the cursor for the next page
+     */
+    @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public CursorPageDTO<TimeTableDTO> getAllTimeTables(int limit, String cursor, boolean ascending) {
+        Long seekId = CursorUtil.seekId(cursor, ascending);
+        Pageable window = CursorUtil.seekWindow(limit, ascending);
+        Slice<TimeTableDTO> slice = ascending ? repository.findByIdGreaterThan(seekId, window) : repository.findByIdLessThan(seekId, window);
+        return CursorUtil.toCursorPage(slice, TimeTableDTO::getId);
     }
 
     /**
@@ -46,6 +81,7 @@ public class TimeTableServiceImpl implements TimeTableService {
      */
     @Override
     @Cacheable(value = "timetable", key = "#id")
+    @Transactional(readOnly = true)
     public TimeTableDTO getTimeTableById(Long id) {
         TimeTable timeTable = repository.findById(id).orElseThrow(TimetableNotFoundException::new);
         return new TimeTableDTO(timeTable);
@@ -59,7 +95,7 @@ public class TimeTableServiceImpl implements TimeTableService {
      */
     @Override
     @CachePut(value = "timetable", key = "#result.id")
-    @CacheEvict(value = "todayClassCount", allEntries = true)
+    @CacheEvict(value = { "todayClassCount", "userTimetables" }, allEntries = true)
     public TimeTableDTO createTimeTable(TimeTableDTO timeTableDTO) {
         TimeTable timeTable = new TimeTable(timeTableDTO);
         timeTable = repository.save(timeTable);
@@ -76,7 +112,7 @@ public class TimeTableServiceImpl implements TimeTableService {
      */
     @Override
     @CachePut(value = "timetable", key = "#id")
-    @CacheEvict(value = "todayClassCount", allEntries = true)
+    @CacheEvict(value = { "todayClassCount", "userTimetables" }, allEntries = true)
     public TimeTableDTO updateTimeTable(Long id, TimeTableDTO timeTableDTO) {
         TimeTable timeTable = repository.findById(id).orElseThrow(() -> new TimetableNotFoundException(" with id: " + id));
 
@@ -98,7 +134,10 @@ public class TimeTableServiceImpl implements TimeTableService {
      * @throws TimetableNotFoundException if the record doesn't exist
      */
     @Override
-    @CacheEvict(value = { "timetable", "todayClassCount" }, key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = { "timetable", "todayClassCount" }, key = "#id"),
+            @CacheEvict(value = "userTimetables", allEntries = true)
+    })
     public boolean deleteTimeTable(Long id) {
         TimeTable timeTable = repository.findById(id).orElseThrow(() -> new TimetableNotFoundException(" with id: " + id));
         repository.delete(timeTable);
@@ -107,7 +146,48 @@ public class TimeTableServiceImpl implements TimeTableService {
 
     @Override
     @Cacheable("todayClassCount")
+    @Transactional(readOnly = true)
     public Long getTodayClassCount() {
         return repository.getTodayClassCount(LocalDate.now());
     }
+
+    /**
+     * Retrieves the timetable entries for a date, ordered by start time.
+     *
+     * @param date  the date of the classes
+     * @param limit maximum number of entries
+     * @return list of TimeTableDTOs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeTableDTO> getTimeTablesByDate(LocalDate date, int limit) {
+        return repository.findDtosByDate(date, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Retrieves the timetable entries of the courses a user is assigned to within a date window.
+     * Cached per user and window; any timetable or assignment change clears the cache.
+     *
+     * @param userId ID of the user
+     * @param from   first date of the window
+     * @param to     last date of the window
+     * @return list of TimeTableDTOs ordered by date and start time
+     * @throws ValidationException if the window is reversed or longer than {@link Constants#MAX_TIMETABLE_WINDOW_DAYS}
+     */
+    @Override
+    @Cacheable(value = "userTimetables", key = "#userId + '_' + #from + '_' + #to")
+    @Transactional(readOnly = true)
+    public List<TimeTableDTO> getTimeTablesForUser(Long userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= Constants.MAX_TIMETABLE_WINDOW_DAYS) {
+            throw new ValidationException(Constants.INVALID_DATE_WINDOW);
+        }
+        List<Long> courseIds = courseAssignService.getCourseAssignsByUser(userId).stream()
+                .map(CourseAssignDTO::getCourseId)
+                .distinct()
+                .collect(Collectors.toList());
+        if (courseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return repository.findDtosByCourseIdsAndDateBetween(courseIds, from, to);
+    }
 }
@@ -1,25 +1,31 @@
 package com.qslabs.sms.service.impl;
 
 import com.qslabs.sms.dto.AuthDTO;
+import com.qslabs.sms.dto.CursorPageDTO;
 import com.qslabs.sms.dto.UserDTO;
 import com.qslabs.sms.dto.UserResponseDTO;
 import com.qslabs.sms.model.User;
 import com.qslabs.sms.repository.UserRepository;
+import com.qslabs.sms.service.PasswordVerificationService;
 import com.qslabs.sms.service.UserService;
 import com.qslabs.sms.service.impl.RedisTokenService;
+import com.qslabs.sms.util.Constants;
+import com.qslabs.sms.util.CursorUtil;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.UUID;
 
 /**
@@ -36,7 +42,7 @@ public class UserServiceImpl implements UserService {
     private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private PasswordVerificationService passwordVerificationService;
 
     @Autowired
     private RedisTokenService redisTokenService;
@@ -56,41 +62,64 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
     public Page<UserResponseDTO> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable).map(UserResponseDTO::new);
+        return userRepository.findAllDtos(pageable);
+    }
+
+    /**
+     * Retrieves all users using keyset pagination on the ID.
+     *
+     * @param limit     maximum number of results
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction of the ID
+     * @return page of UserResponseDTOs with the cursor for the next page
+     */
+    @Override
+    @Transactional(readOnly = true, label = Constants.REPORTING_TX_LABEL)
+    public CursorPageDTO<UserResponseDTO> getAllUsers(int limit, String cursor, boolean ascending) {
+        Long seekId = CursorUtil.seekId(cursor, ascending);
+        Pageable window = CursorUtil.seekWindow(limit, ascending);
+        Slice<UserResponseDTO> slice = ascending ? userRepository.findByIdGreaterThan(seekId, window) : userRepository.findByIdLessThan(seekId, window);
+        return CursorUtil.toCursorPage(slice, UserResponseDTO::getId);
     }
 
     /**
      * Validates user login credentials and generates a session token.
+     * The user is loaded once and the password is checked on the bounded login executor,
+     * so a burst of logins is answered with 503s instead of tying up the request threads.
      *
      * @param username the user's username
      * @param password the user's raw password
-     * @return AuthDTO with token and user info if authenticated, otherwise null fields
+     * @return AuthDTO with token and user info if authenticated
+     * @throws BadCredentialsException if the username or password is wrong
      */
     @Override
     public AuthDTO isUser(String username, String password) {
-        try {
-            // Authenticate using raw credentials
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(username, password)
-            );
-
-            // Set security context
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-
-            // Load user from DB to generate token
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        User user = userRepository.findByUsername(username).orElse(null);
+        if (!passwordVerificationService.matches(password, user != null ? user.getPassword() : null)) {
+            throw new BadCredentialsException("Bad credentials");
+        }
 
-            // Generate token and store in Redis
-            String token = UUID.randomUUID().toString();
-            redisTokenService.saveToken(token, user.getUsername(), user.getId(), user.getRole());
+        // Set security context
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user.getUsername(), null,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole()))));
 
-            return new AuthDTO(token, user.getUsername(), user.getId(), user.getRole());
+        // Generate token and store in Redis
+        String token = UUID.randomUUID().toString();
+        redisTokenService.saveToken(token, user.getUsername(), user.getId(), user.getRole());
 
-        }finally {
+        return new AuthDTO(token, user.getUsername(), user.getId(), user.getRole());
+    }
 
-        }
+    /**
+     * Deletes the session token from Redis and from every node's token cache.
+     *
+     * @param token the session token to invalidate
+     */
+    @Override
+    public void logout(String token) {
+        redisTokenService.deleteToken(token);
     }
 
     @Override
@@ -135,6 +164,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserResponseDTO getUserById(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with ID: " + id));
@@ -1,5 +1,7 @@
 package com.qslabs.sms.util;
 
+import java.time.LocalDate;
+
 /**
  * Utility class containing application-wide constants.
  * These constants are used across different modules such as CORS configuration,
@@ -19,6 +21,26 @@ public class Constants {
 
     public static final String AUTH_HEADER = "Authorization";
 
+    /**
+     * Redis pub/sub channel used to broadcast token invalidations to all nodes.
+     */
+    public static final String TOKEN_INVALIDATION_CHANNEL = "sms:token-invalidation";
+
+    /**
+     * Redis pub/sub channel used to broadcast L1 cache invalidations to all nodes.
+     */
+    public static final String CACHE_INVALIDATION_CHANNEL = "sms:cache-invalidation";
+
+    /**
+     * Redis pub/sub channel used to broadcast attendance index changes to all nodes.
+     */
+    public static final String ATTENDANCE_INDEX_CHANNEL = "sms:attendance-index";
+
+    /**
+     * Redis pub/sub channel used to share live attendance summary changes between nodes.
+     */
+    public static final String ATTENDANCE_LIVE_CHANNEL = "sms:attendance-live";
+
     /**
      * Allowed origins for CORS requests.
      */
@@ -34,6 +56,39 @@ public class Constants {
      */
     public static final String ALLOWED_HEADERS = "*";
 
+    /* ============================ */
+    /*      ID generation           */
+    /* ============================ */
+    /**
+     * Number of IDs reserved per sequence call. Hibernate hands out the block starting at the
+     * value of the call (pooled-lo), so inserts of up to this many rows share one round trip and
+     * plain SQL inserts can reserve blocks the same way.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    /* ============================ */
+    /*      Pagination              */
+    /* ============================ */
+    /**
+     * Upper bound for the page size of cursor paginated listings.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Sort key for ordering students by last name.
+     */
+    public static final String SORT_LAST_NAME = "lastName";
+
+    /**
+     * Longest date window, in days, served by the per-user timetable lookup.
+     */
+    public static final int MAX_TIMETABLE_WINDOW_DAYS = 92;
+
+    /**
+     * Default date window, in days, of the per-user timetable lookup.
+     */
+    public static final int DEFAULT_TIMETABLE_WINDOW_DAYS = 7;
+
     /* ============================ */
     /*      Student                 */
     /* ============================ */
@@ -47,6 +102,21 @@ public class Constants {
      */
     public static final String STUDENT_TABLE = "students";
 
+    /**
+     * Sequence that hands out student IDs in blocks of ID_ALLOCATION_SIZE.
+     */
+    public static final String STUDENT_SEQUENCE = "students_seq";
+
+    /**
+     * Role given to users created by the student import.
+     */
+    public static final String STUDENT_ROLE = "STUDENT";
+
+    /**
+     * Number of rows written per statement or JDBC batch by the student import.
+     */
+    public static final int IMPORT_BATCH_SIZE = 500;
+
     /* ============================ */
     /*      Attendance              */
     /* ============================ */
@@ -60,6 +130,86 @@ public class Constants {
      */
     public static final String ATTENDANCE_TABLE = "attendances";
 
+    /**
+     * Unique index allowing one attendance row per user, course and date; upserts conflict on it.
+     */
+    public static final String ATTENDANCE_UNIQUE_KEY = "uk_attendance_user_course_date";
+
+    /**
+     * Sequence that hands out attendance IDs in blocks of ID_ALLOCATION_SIZE.
+     */
+    public static final String ATTENDANCE_SEQUENCE = "attendances_seq";
+
+    /**
+     * Number of rows sent per JDBC batch for bulk attendance writes.
+     */
+    public static final int ATTENDANCE_BATCH_SIZE = 500;
+
+    /**
+     * Role stored on roll call rows when the request does not name one.
+     */
+    public static final String DEFAULT_ATTENDANCE_ROLE = "STUDENT";
+
+    /**
+     * Attendance status counted as present.
+     */
+    public static final String STATUS_PRESENT = "PRESENT";
+
+    /**
+     * Name of the monthly attendance summary rollup table in the database.
+     */
+    public static final String ATTENDANCE_ROLLUP_TABLE = "attendance_rollups";
+
+    /**
+     * Course ID stored in rollup buckets of attendance without a course.
+     */
+    public static final long ROLLUP_NO_COURSE = 0L;
+
+    /**
+     * Role stored in rollup buckets of attendance without a role.
+     */
+    public static final String ROLLUP_NO_ROLE = "";
+
+    /**
+     * Prefix of the monthly attendance partitions, followed by the year and month, e.g. attendances_p202609.
+     */
+    public static final String ATTENDANCE_PARTITION_PREFIX = "attendances_p";
+
+    /**
+     * Partition holding attendance dated outside every monthly partition.
+     */
+    public static final String ATTENDANCE_DEFAULT_PARTITION = "attendances_default";
+
+    /**
+     * Schema that detached attendance partitions of closed years are moved to.
+     */
+    public static final String ATTENDANCE_ARCHIVE_SCHEMA = "attendance_archive";
+
+    /**
+     * Archive horizon used while no attendance partition has been archived; older than any attendance date.
+     */
+    public static final LocalDate ATTENDANCE_NOT_ARCHIVED = LocalDate.of(1, 1, 1);
+
+    /**
+     * Redis stream holding roll calls waiting to be written by the ingestion writer.
+     */
+    public static final String ATTENDANCE_INGEST_STREAM = "sms:attendance-ingest";
+
+    /**
+     * Redis stream holding roll calls the ingestion writer could not write.
+     */
+    public static final String ATTENDANCE_INGEST_DEAD_STREAM = "sms:attendance-ingest:dead";
+
+    /**
+     * Consumer group of the ingestion writers.
+     */
+    public static final String ATTENDANCE_INGEST_GROUP = "attendance-writer";
+
+    /**
+     * Stream record field holding the JSON roll call.
+     */
+    public static final String INGEST_PAYLOAD_FIELD = "payload";
+
     /* ============================ */
     /*      Course                  */
     /* ============================ */
@@ -73,6 +223,11 @@ public class Constants {
      */
     public static final String COURSE_TABLE = "courses";
 
+    /**
+     * Sequence that hands out course IDs in blocks of ID_ALLOCATION_SIZE.
+     */
+    public static final String COURSE_SEQUENCE = "courses_seq";
+
     /* ============================ */
     /*      Course Assign           */
     /* ============================ */
@@ -86,6 +241,11 @@ public class Constants {
      */
     public static final String COURSEASSIGN_TABLE = "course_assigns";
 
+    /**
+     * Sequence that hands out course assign IDs in blocks of ID_ALLOCATION_SIZE.
+     */
+    public static final String COURSEASSIGN_SEQUENCE = "course_assigns_seq";
+
     /* ============================ */
     /*      teacher                 */
     /* ============================ */
@@ -99,6 +259,11 @@ public class Constants {
      */
     public static final String TEACHER_TABLE = "teachers";
 
+    /**
+     * Sequence that hands out teacher IDs in blocks of ID_ALLOCATION_SIZE.
+     */
+    public static final String TEACHER_SEQUENCE = "teachers_seq";
+
     /* ============================ */
     /*     Time Table               */
     /* ============================ */
@@ -112,6 +277,11 @@ public class Constants {
      */
     public static final String TIMETABLE_TABLE = "timetables";
 
+    /**
+     * Sequence that hands out timetable IDs in blocks of ID_ALLOCATION_SIZE.
+     */
+    public static final String TIMETABLE_SEQUENCE = "timetables_seq";
+
     /* ============================ */
     /*     user                     */
     /* ============================ */
@@ -125,6 +295,44 @@ public class Constants {
      */
     public static final String USER_TABLE = "users";
 
+    /**
+     * Sequence that hands out user IDs in blocks of ID_ALLOCATION_SIZE.
+     */
+    public static final String USER_SEQUENCE = "users_seq";
+
+    /* ============================ */
+    /*     Dashboard                */
+    /* ============================ */
+    /**
+     * Base request mapping for dashboard aggregates.
+     */
+    public static final String REQUEST_MAPPING_DASHBOARD = "/api/dashboard";
+
+    /**
+     * Number of entries returned in each dashboard list.
+     */
+    public static final int DASHBOARD_TOP_N = 10;
+
+    /**
+     * Transaction label of read-only reporting and listing queries, which may run on the reporting database.
+     */
+    public static final String REPORTING_TX_LABEL = "reporting";
+
+    /**
+     * Bean name of the executor used for dashboard fan-out calls.
+     */
+    public static final String DASHBOARD_EXECUTOR = "dashboardExecutor";
+
+    /**
+     * Bean name of the executor that checks login passwords.
+     */
+    public static final String LOGIN_EXECUTOR = "loginExecutor";
+
+    /**
+     * Bean name of the executor that hashes imported passwords.
+     */
+    public static final String IMPORT_HASH_EXECUTOR = "importHashExecutor";
+
     /* ============================ */
     /*         Exception            */
     /* ============================ */
@@ -174,5 +382,100 @@ public class Constants {
      * Default error message for custom query errors.
      */
     public static final String CUSTOM_QUERY_ERROR = "Custom Query Error";
+
+    /**
+     * Error message for a malformed pagination cursor.
+     */
+    public static final String INVALID_CURSOR = "Invalid pagination cursor";
+
+    /**
+     * Error message for a cursor listing sorted by anything other than the ID.
+     */
+    public static final String INVALID_CURSOR_SORT = "Cursor pagination only supports sorting by id";
+
+    /**
+     * Error message for a timetable date window that is reversed or too long.
+     */
+    public static final String INVALID_DATE_WINDOW = "Invalid date window";
+
+    /**
+     * Error message for a roll call listing the same user more than once.
+     */
+    public static final String DUPLICATE_ROLL_CALL_ENTRY = "Roll call lists a user more than once";
+
+    /**
+     * Error message for an unsupported attendance export format.
+     */
+    public static final String INVALID_EXPORT_FORMAT = "Unsupported export format, use csv or ndjson";
+
+    /**
+     * Error message for an attendance update that collides with another record of the same user, course and date.
+     */
+    public static final String ATTENDANCE_ALREADY_MARKED = "Attendance is already marked for this user, course and date";
+
+    /**
+     * Error message when the attendance ingestion queue is full.
+     */
+    public static final String INGEST_BACKLOG_FULL = "Attendance ingestion backlog is full, retry shortly";
+
+    /**
+     * Error message when too many logins are being checked at once.
+     */
+    public static final String LOGIN_BUSY = "Too many logins in progress, retry shortly";
+
+    /**
+     * Retry-After value, in seconds, sent with a refused login.
+     */
+    public static final String LOGIN_RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * Error message when a user asks for another user's per-user data.
+     */
+    public static final String ACCESS_DENIED = "Not allowed to read another user's data";
+
+    /**
+     * Authority of administrators, who may read every user's data.
+     */
+    public static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    /**
+     * Error message for an unsupported student import format.
+     */
+    public static final String INVALID_IMPORT_FORMAT = "Unsupported import format, use csv or ndjson";
+
+    /**
+     * Error message when too many student imports are being hashed at once.
+     */
+    public static final String IMPORT_BUSY = "Too many imports in progress, retry shortly";
+
+    /**
+     * Error message for a student import with more rows than allowed, followed by the limit.
+     */
+    public static final String IMPORT_TOO_MANY_ROWS = "Import has too many rows, the limit is ";
+
+    /**
+     * Row error for an imported row without a required field, followed by the field name.
+     */
+    public static final String IMPORT_MISSING_FIELD = "Missing required field ";
+
+    /**
+     * Row error for an imported row repeating a username of an earlier row.
+     */
+    public static final String IMPORT_DUPLICATE_USERNAME = "Username appears more than once in the import";
+
+    /**
+     * Row error for an imported row whose username belongs to an existing user.
+     */
+    public static final String IMPORT_USERNAME_TAKEN = "Username already exists";
+
+    /**
+     * Row error for an imported row that cannot be parsed.
+     */
+    public static final String IMPORT_UNREADABLE_ROW = "Row cannot be read";
+
+    /**
+     * Row error for an imported row whose date of birth is not a yyyy-MM-dd date.
+     */
+    public static final String IMPORT_INVALID_DATE_OF_BIRTH = "Invalid dateOfBirth, use yyyy-MM-dd";
 }
 
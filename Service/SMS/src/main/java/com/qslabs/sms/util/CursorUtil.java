@@ -0,0 +1,171 @@
+package com.qslabs.sms.util;
+
+import com.qslabs.sms.dto.CursorPageDTO;
+import com.qslabs.sms.exception.ValidationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Utility class for encoding and decoding opaque pagination cursors.
+ * A cursor holds the sort key values of the last row of a page, so the next page
+ * can be fetched with a keyset (seek) predicate instead of an OFFSET.
+ */
+public final class CursorUtil {
+
+    private static final String SEPARATOR = ":";
+
+    private static final String ID_SORT = "id";
+
+    private CursorUtil() {
+    }
+
+    /**
+     * Encodes the given key values into an opaque, URL-safe cursor.
+     *
+     * @param values sort key values of the last row on the page
+     * @return encoded cursor
+     */
+    public static String encode(Object... values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            String value = values[i] == null ? "" : values[i].toString();
+            builder.append(Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8)));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode(Object...)}.
+     *
+     * @param cursor   encoded cursor
+     * @param expected number of key values the cursor must contain
+     * @return decoded key values
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static String[] decode(String cursor, int expected) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != expected) {
+                throw new ValidationException(Constants.INVALID_CURSOR);
+            }
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = new String(Base64.getUrlDecoder().decode(parts[i]), StandardCharsets.UTF_8);
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(Constants.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * Decodes a single numeric key from a cursor.
+     *
+     * @param cursor encoded cursor
+     * @return decoded id
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static Long decodeId(String cursor) {
+        return toId(decode(cursor, 1)[0]);
+    }
+
+    /**
+     * Parses a numeric key value taken from a decoded cursor.
+     *
+     * @param value decoded key value
+     * @return parsed id
+     * @throws ValidationException if the value is not a number
+     */
+    public static Long toId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException(Constants.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * Clamps a requested page size to the allowed range.
+     *
+     * @param limit requested page size
+     * @return page size between 1 and {@link Constants#MAX_PAGE_SIZE}
+     */
+    public static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, Constants.MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Checks that a cursor listing is sorted by the ID, the only key it can seek on.
+     *
+     * @param sortBy requested sort field
+     * @throws ValidationException if the field is not "id"
+     */
+    public static void requireIdSort(String sortBy) {
+        if (!ID_SORT.equals(sortBy)) {
+            throw new ValidationException(Constants.INVALID_CURSOR_SORT);
+        }
+    }
+
+    /**
+     * Decodes the ID to seek past, or the start of the ID range for the first page.
+     *
+     * @param cursor    cursor of the previous page, or null for the first page
+     * @param ascending sort direction
+     * @return ID to seek past
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static Long seekId(String cursor, boolean ascending) {
+        if (cursor == null || cursor.isBlank()) {
+            return ascending ? 0L : Long.MAX_VALUE;
+        }
+        return decodeId(cursor);
+    }
+
+    /**
+     * Builds the window of an ID keyset query. No offset is used and no count is run.
+     *
+     * @param limit     requested page size
+     * @param ascending sort direction
+     * @return first-page request of the clamped size sorted by ID
+     */
+    public static Pageable seekWindow(int limit, boolean ascending) {
+        return PageRequest.of(0, clampLimit(limit), ascending ? Sort.by(ID_SORT).ascending() : Sort.by(ID_SORT).descending());
+    }
+
+    /**
+     * Converts a keyset slice into a cursor page pointing past its last row.
+     *
+     * @param slice  slice fetched with {@link #seekWindow(int, boolean)}
+     * @param idOf   ID accessor of the entity
+     * @param mapper entity to DTO conversion
+     * @return page of DTOs with the cursor for the next page, if any
+     */
+    public static <E, D> CursorPageDTO<D> toCursorPage(Slice<E> slice, Function<E, Long> idOf, Function<E, D> mapper) {
+        String nextCursor = null;
+        if (slice.hasNext() && slice.hasContent()) {
+            nextCursor = encode(idOf.apply(slice.getContent().get(slice.getNumberOfElements() - 1)));
+        }
+        return new CursorPageDTO<>(slice.getContent().stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * Converts a keyset slice of DTOs selected by the repository into a cursor page.
+     *
+     * @param slice slice fetched with {@link #seekWindow(int, boolean)}
+     * @param idOf  ID accessor of the DTO
+     * @return page of DTOs with the cursor for the next page, if any
+     */
+    public static <D> CursorPageDTO<D> toCursorPage(Slice<D> slice, Function<D, Long> idOf) {
+        return toCursorPage(slice, idOf, Function.identity());
+    }
+}
@@ -0,0 +1,32 @@
+package com.qslabs.sms.util;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for paging lists that are already held in memory,
+ * such as small per-user result sets served from the cache.
+ */
+public final class PageUtil {
+
+    private PageUtil() {
+    }
+
+    /**
+     * Returns one page of a list.
+     *
+     * @param items    full, ordered list
+     * @param pageable requested page and size
+     * @param <T>      element type
+     * @return the requested page with the total size of the list
+     */
+    public static <T> Page<T> page(List<T> items, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        return new PageImpl<>(new ArrayList<>(items.subList(from, to)), pageable, items.size());
+    }
+}
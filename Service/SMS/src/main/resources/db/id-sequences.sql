@@ -0,0 +1,48 @@
+-- Moves entity IDs from identity columns to pooled sequences (<table>_seq, increment 50).
+-- Runs on every startup after Hibernate schema update, so every statement must be idempotent.
+-- Hibernate takes a block of 50 IDs per sequence call, which lets it batch inserts; the column
+-- default draws from the same sequence, so plain SQL inserts never collide with Hibernate's blocks.
+-- Existing IDs are kept: a sequence whose next block could reach an existing ID is moved past the
+-- highest ID. That is only the case once, right after the switch from identity columns.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+SELECT setval('users_seq', MAX(id) + 1, false) FROM users
+HAVING MAX(id) >= (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM users_seq);
+
+CREATE SEQUENCE IF NOT EXISTS students_seq INCREMENT BY 50;
+ALTER TABLE students ALTER COLUMN student_id DROP IDENTITY IF EXISTS;
+ALTER TABLE students ALTER COLUMN student_id SET DEFAULT nextval('students_seq');
+SELECT setval('students_seq', MAX(student_id) + 1, false) FROM students
+HAVING MAX(student_id) >= (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM students_seq);
+
+CREATE SEQUENCE IF NOT EXISTS teachers_seq INCREMENT BY 50;
+ALTER TABLE teachers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE teachers ALTER COLUMN id SET DEFAULT nextval('teachers_seq');
+SELECT setval('teachers_seq', MAX(id) + 1, false) FROM teachers
+HAVING MAX(id) >= (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM teachers_seq);
+
+CREATE SEQUENCE IF NOT EXISTS courses_seq INCREMENT BY 50;
+ALTER TABLE courses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE courses ALTER COLUMN id SET DEFAULT nextval('courses_seq');
+SELECT setval('courses_seq', MAX(id) + 1, false) FROM courses
+HAVING MAX(id) >= (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM courses_seq);
+
+CREATE SEQUENCE IF NOT EXISTS course_assigns_seq INCREMENT BY 50;
+ALTER TABLE course_assigns ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE course_assigns ALTER COLUMN id SET DEFAULT nextval('course_assigns_seq');
+SELECT setval('course_assigns_seq', MAX(id) + 1, false) FROM course_assigns
+HAVING MAX(id) >= (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM course_assigns_seq);
+
+CREATE SEQUENCE IF NOT EXISTS timetables_seq INCREMENT BY 50;
+ALTER TABLE timetables ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE timetables ALTER COLUMN id SET DEFAULT nextval('timetables_seq');
+SELECT setval('timetables_seq', MAX(id) + 1, false) FROM timetables
+HAVING MAX(id) >= (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM timetables_seq);
+
+CREATE SEQUENCE IF NOT EXISTS attendances_seq INCREMENT BY 50;
+ALTER TABLE attendances ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE attendances ALTER COLUMN id SET DEFAULT nextval('attendances_seq');
+SELECT setval('attendances_seq', MAX(id) + 1, false) FROM attendances
+HAVING MAX(id) >= (SELECT last_value + CASE WHEN is_called THEN 50 ELSE 0 END FROM attendances_seq);
@@ -0,0 +1,24 @@
+-- Indexes that cannot be declared through JPA @Index.
+-- Runs on every startup after Hibernate schema update, so every statement must be idempotent.
+-- The attendance indexes here are also listed in AttendancePartitionRepository, which creates
+-- them on the table it converts to monthly partitions; keep both in step.
+
+-- Covering index for the attendance summary: date range scans read
+-- user_id, role, course_id and status from the index alone.
+CREATE INDEX IF NOT EXISTS idx_attendance_date_summary
+    ON attendances (date) INCLUDE (user_id, role, course_id, status);
+
+-- Compact block-range index for wide date range scans; attendance rows arrive in date order.
+CREATE INDEX IF NOT EXISTS brin_attendance_date
+    ON attendances USING brin (date);
+
+-- Keyset order of the student listing sorted by last name; matches the COALESCE in
+-- StudentRepository so each page is an index range scan instead of a sort of the whole table.
+CREATE INDEX IF NOT EXISTS idx_student_last_name_key
+    ON students ((COALESCE(last_name, '')), student_id);
+
+-- Superseded by idx_course_assign_user_course, which also covers the per-user course count.
+DROP INDEX IF EXISTS idx_course_assign_user;
+
+-- The unique key uk_attendance_user_course_date is created by AttendanceUniqueKeyMigration,
+-- which refuses to start while duplicate rows from before the key exist.
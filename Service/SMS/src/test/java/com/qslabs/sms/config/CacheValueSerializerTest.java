@@ -0,0 +1,98 @@
+package com.qslabs.sms.config;
+
+import com.qslabs.sms.dto.AttendanceDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round-trip and size checks of the cache value formats, and an opt-in timing comparison.
+ */
+class CacheValueSerializerTest {
+
+    private static final int ROWS = 5000;
+    private static final int ROUNDS = 50;
+
+    private final CacheValueSerializer json = new CacheValueSerializer(CacheValueSerializer.Format.JSON);
+    private final CacheValueSerializer smile = new CacheValueSerializer(CacheValueSerializer.Format.SMILE);
+
+    @Test
+    void readsValuesWrittenInEitherFormat() {
+        List<AttendanceDTO> rows = attendanceRows(3);
+
+        assertRows(rows, smile.deserialize(json.serialize(rows)));
+        assertRows(rows, json.deserialize(smile.serialize(rows)));
+    }
+
+    @Test
+    void smileIsSmallerThanJson() {
+        List<AttendanceDTO> rows = attendanceRows(ROWS);
+
+        assertTrue(smile.serialize(rows).length < json.serialize(rows).length);
+    }
+
+    /**
+     * Prints size and encode/decode time of both formats. Run with -Dsms.benchmark=true.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "sms.benchmark", matches = "true")
+    void compareFormats() {
+        List<AttendanceDTO> rows = attendanceRows(ROWS);
+
+        // warm up both mappers before timing
+        for (int i = 0; i < 5; i++) {
+            json.deserialize(json.serialize(rows));
+            smile.deserialize(smile.serialize(rows));
+        }
+
+        byte[] jsonBytes = json.serialize(rows);
+        byte[] smileBytes = smile.serialize(rows);
+        System.out.printf("cache value of %d AttendanceDTOs: JSON %d bytes, SMILE %d bytes%n", ROWS, jsonBytes.length, smileBytes.length);
+        System.out.printf("JSON  encode %.2f ms, decode %.2f ms%n", encodeMillis(json, rows), decodeMillis(json, jsonBytes));
+        System.out.printf("SMILE encode %.2f ms, decode %.2f ms%n", encodeMillis(smile, rows), decodeMillis(smile, smileBytes));
+    }
+
+    private List<AttendanceDTO> attendanceRows(int count) {
+        List<AttendanceDTO> rows = new ArrayList<>();
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < count; i++) {
+            AttendanceDTO dto = new AttendanceDTO((long) (i % 200), "STUDENT", 7L, start.plusDays(i / 200), i % 5 == 0 ? "ABSENT" : "PRESENT");
+            dto.setId((long) i);
+            rows.add(dto);
+        }
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void assertRows(List<AttendanceDTO> expected, Object actual) {
+        List<AttendanceDTO> rows = (List<AttendanceDTO>) actual;
+        assertEquals(expected.size(), rows.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), rows.get(i).getId());
+            assertEquals(expected.get(i).getDate(), rows.get(i).getDate());
+            assertEquals(expected.get(i).getStatus(), rows.get(i).getStatus());
+        }
+    }
+
+    private double encodeMillis(CacheValueSerializer serializer, Object value) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            serializer.serialize(value);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+    }
+
+    private double decodeMillis(CacheValueSerializer serializer, byte[] bytes) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            serializer.deserialize(bytes);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+    }
+}
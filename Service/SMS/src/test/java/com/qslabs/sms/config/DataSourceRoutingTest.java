@@ -0,0 +1,95 @@
+package com.qslabs.sms.config;
+
+import com.qslabs.sms.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that read-only reporting transactions run on the reporting database and all other work,
+ * including unlabelled read-only transactions, on the primary.
+ * Both databases are throwaway Postgres containers; the schema is only created on the primary.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "sms.attendance.ingest.enabled=false",
+        "sms.datasource.reporting.enabled=true",
+        "sms.datasource.reporting.statement-timeout=5s"
+})
+class DataSourceRoutingTest {
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine").withDatabaseName("sms_primary");
+
+    @Container
+    static PostgreSQLContainer<?> reporting = new PostgreSQLContainer<>("postgres:16-alpine").withDatabaseName("sms_reporting");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("sms.datasource.reporting.hikari.jdbc-url", reporting::getJdbcUrl);
+        registry.add("sms.datasource.reporting.hikari.username", reporting::getUsername);
+        registry.add("sms.datasource.reporting.hikari.password", reporting::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void reportingTransactionsUseReportingDatabase() {
+        DefaultTransactionAttribute reporting = new DefaultTransactionAttribute();
+        reporting.setReadOnly(true);
+        reporting.setLabels(List.of(Constants.REPORTING_TX_LABEL));
+        TransactionStatus status = transactionManager.getTransaction(reporting);
+        try {
+            assertEquals("sms_reporting", currentDatabase());
+            assertEquals("5s", jdbcTemplate.queryForObject("SHOW statement_timeout", String.class));
+        } finally {
+            transactionManager.commit(status);
+        }
+        assertEquals("sms_primary", currentDatabase());
+    }
+
+    @Test
+    void unlabelledReadOnlyTransactionsUsePrimaryDatabase() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        assertEquals("sms_primary", readOnly.execute(status -> currentDatabase()));
+    }
+
+    @Test
+    void writesUsePrimaryDatabase() {
+        assertEquals("sms_primary", new TransactionTemplate(transactionManager).execute(status -> currentDatabase()));
+        assertEquals("sms_primary", currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+    }
+}
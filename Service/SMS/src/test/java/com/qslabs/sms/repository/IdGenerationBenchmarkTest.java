@@ -0,0 +1,236 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.dto.RollCallDTO;
+import com.qslabs.sms.model.Attendance;
+import com.qslabs.sms.model.TimeTable;
+import com.qslabs.sms.service.AttendanceService;
+import com.qslabs.sms.util.Constants;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares insert throughput of the attendance and timetable write paths with pooled sequence IDs,
+ * where Hibernate sends the rows in JDBC batches, and with IDENTITY IDs, where Hibernate inserts
+ * every row on its own to read the generated ID back. The IDENTITY side saves copies of the
+ * entities mapped to tables of their own; the attendance roll call path is measured as well.
+ * Run with -Dsms.benchmark=true; results are printed as rows per second.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "sms.benchmark", matches = "true")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "sms.attendance.ingest.enabled=false"
+})
+class IdGenerationBenchmarkTest {
+
+    private static final int ROWS = 20000;
+    private static final int ROUNDS = 3;
+    private static final int USERS = 1000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private TimeTableRepository timeTableRepository;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Test
+    void attendanceInserts() {
+        for (int round = 0; round < ROUNDS; round++) {
+            List<IdentityAttendance> identity = attendance(round).stream().map(IdentityAttendance::new).toList();
+            List<Attendance> entities = attendance(round);
+            List<RollCallDTO> rollCalls = rollCalls(round);
+            double identityRate = measure(IdentityAttendance.TABLE, () -> identity.forEach(entityManager::persist));
+            double batched = measure(Constants.ATTENDANCE_TABLE, () -> attendanceRepository.saveAll(entities));
+            double rollCall = measure(Constants.ATTENDANCE_TABLE, () -> attendanceService.markRollCalls(rollCalls));
+            report("attendance", round, identityRate, batched);
+            System.out.printf("attendance round %d: markRollCalls %.0f rows/s%n", round + 1, rollCall);
+        }
+    }
+
+    @Test
+    void timetableInserts() {
+        for (int round = 0; round < ROUNDS; round++) {
+            List<IdentityTimeTable> identity = timetable().stream().map(IdentityTimeTable::new).toList();
+            List<TimeTable> entities = timetable();
+            double identityRate = measure(IdentityTimeTable.TABLE, () -> identity.forEach(entityManager::persist));
+            double batched = measure(Constants.TIMETABLE_TABLE, () -> timeTableRepository.saveAll(entities));
+            report("timetable", round, identityRate, batched);
+        }
+    }
+
+    /**
+     * Inserts ROWS rows into an emptied table in one transaction.
+     *
+     * @return rows per second
+     */
+    private double measure(String table, Runnable insert) {
+        jdbcTemplate.execute("TRUNCATE " + table);
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> insert.run());
+        long elapsed = System.nanoTime() - start;
+        assertEquals(ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class));
+        return ROWS * 1e9 / elapsed;
+    }
+
+    private static void report(String path, int round, double identity, double sequence) {
+        System.out.printf("%s round %d: IDENTITY %.0f rows/s, pooled sequence %.0f rows/s (%.1fx)%n",
+                path, round + 1, identity, sequence, sequence / identity);
+    }
+
+    /**
+     * One row per user, course and date, so the rows satisfy the unique attendance key.
+     */
+    private static List<Attendance> attendance(int round) {
+        List<Attendance> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Attendance attendance = new Attendance();
+            attendance.setUserId((long) i % USERS);
+            attendance.setRole("STUDENT");
+            attendance.setCourseId((long) round);
+            attendance.setDate(LocalDate.of(2024, 1, 1).plusDays(i / USERS));
+            attendance.setStatus(i % 5 == 0 ? "ABSENT" : "PRESENT");
+            rows.add(attendance);
+        }
+        return rows;
+    }
+
+    /**
+     * The rows of {@link #attendance(int)} as one roll call per date.
+     */
+    private static List<RollCallDTO> rollCalls(int round) {
+        List<RollCallDTO> rollCalls = new ArrayList<>();
+        for (int day = 0; day < ROWS / USERS; day++) {
+            RollCallDTO rollCall = new RollCallDTO();
+            rollCall.setCourseId((long) round);
+            rollCall.setDate(LocalDate.of(2024, 1, 1).plusDays(day));
+            rollCall.setRole("STUDENT");
+            List<RollCallDTO.Entry> entries = new ArrayList<>(USERS);
+            for (int user = 0; user < USERS; user++) {
+                int i = day * USERS + user;
+                entries.add(new RollCallDTO.Entry((long) user, i % 5 == 0 ? "ABSENT" : "PRESENT"));
+            }
+            rollCall.setEntries(entries);
+            rollCalls.add(rollCall);
+        }
+        return rollCalls;
+    }
+
+    private static List<TimeTable> timetable() {
+        List<TimeTable> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            TimeTable timeTable = new TimeTable();
+            timeTable.setDate(LocalDate.of(2024, 1, 1).plusDays(i / 30));
+            timeTable.setStartTime(LocalTime.of(8, 0).plusMinutes(15L * (i % 30)));
+            timeTable.setEndTime(LocalTime.of(9, 0).plusMinutes(15L * (i % 30)));
+            timeTable.setTeacherId(1000L + i % 200);
+            timeTable.setCourseId((long) i % 50);
+            timeTable.setClassroom("R" + i % 30);
+            rows.add(timeTable);
+        }
+        return rows;
+    }
+
+    /**
+     * Copy of {@link Attendance} with IDENTITY IDs, in a table of its own.
+     */
+    @Entity
+    @Table(name = IdentityAttendance.TABLE)
+    static class IdentityAttendance {
+
+        static final String TABLE = "attendances_identity";
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private Long userId;
+        private String role;
+        private Long courseId;
+        private LocalDate date;
+        private String status;
+
+        protected IdentityAttendance() {
+        }
+
+        IdentityAttendance(Attendance attendance) {
+            this.userId = attendance.getUserId();
+            this.role = attendance.getRole();
+            this.courseId = attendance.getCourseId();
+            this.date = attendance.getDate();
+            this.status = attendance.getStatus();
+        }
+    }
+
+    /**
+     * Copy of {@link TimeTable} with IDENTITY IDs, in a table of its own.
+     */
+    @Entity
+    @Table(name = IdentityTimeTable.TABLE)
+    static class IdentityTimeTable {
+
+        static final String TABLE = "timetables_identity";
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private LocalDate date;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private Long teacherId;
+        private Long courseId;
+        private String classroom;
+
+        protected IdentityTimeTable() {
+        }
+
+        IdentityTimeTable(TimeTable timeTable) {
+            this.date = timeTable.getDate();
+            this.startTime = timeTable.getStartTime();
+            this.endTime = timeTable.getEndTime();
+            this.teacherId = timeTable.getTeacherId();
+            this.courseId = timeTable.getCourseId();
+            this.classroom = timeTable.getClassroom();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.qslabs.sms.repository;
+
+import com.qslabs.sms.dto.AttendanceFilterDTO;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the repository access paths are served by indexes.
+ * Seeds realistically sized tables in a throwaway Postgres, calls each repository method and
+ * captures the SQL Hibernate sends, then runs EXPLAIN (GENERIC_PLAN) on it and fails if the plan
+ * falls back to a sequential scan.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "sms.attendance.ingest.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.qslabs.sms.repository.QueryPlanIndexTest$CapturingStatementInspector"
+})
+class QueryPlanIndexTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    @ServiceConnection(name = "redis")
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private CourseAssignRepository courseAssignRepository;
+
+    @Autowired
+    private TimeTableRepository timeTableRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Test
+    void attendanceQueriesUseIndexes() {
+        seed();
+        assertIndexed("attendances", () -> attendanceRepository.findDtosByUserId(42L));
+        assertIndexed("attendances", () -> attendanceRepository.findDtosByCourseId(7L));
+        assertIndexed("attendances", () -> attendanceRepository.findDtosByUserIdAndCourseId(42L, 7L));
+        assertIndexed("attendances", () -> attendanceRepository.findDtosByUserIdAndDateBetween(42L,
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)));
+        assertIndexed("attendances", () -> attendanceRepository.summarize(AttendanceSpecifications.matching(
+                new AttendanceFilterDTO(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 7), null, null))));
+    }
+
+    @Test
+    void courseAssignQueriesUseIndexes() {
+        seed();
+        assertIndexed("course_assigns", () -> courseAssignRepository.getAssignedCourseCountByUserId(42L));
+        assertIndexed("course_assigns", () -> courseAssignRepository.findDtosByUserId(42L));
+        assertIndexed("course_assigns", () -> courseAssignRepository.findDtosByCourseId(7L, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void timetableQueriesUseIndexes() {
+        seed();
+        assertIndexed("timetables", () -> timeTableRepository.findByTeacherId(1042L));
+        assertIndexed("timetables", () -> timeTableRepository.findByCourseId(7L));
+        assertIndexed("timetables", () -> timeTableRepository.getTodayClassCount(LocalDate.of(2024, 3, 4)));
+    }
+
+    @Test
+    void studentKeysetQueriesUseIndexes() {
+        seed();
+        assertIndexed("students", () -> studentRepository.findFirstPageByLastName(PageRequest.of(0, 20)));
+        assertIndexed("students", () -> studentRepository.findNextPageByLastName("L250", 12345L, PageRequest.of(0, 20)));
+    }
+
+    /**
+     * Fills the tables once: 2 years of daily attendance for 2000 users over 50 courses,
+     * their course assignments, a timetable of 30 classes a day and 20000 students.
+     */
+    private void seed() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.execute("""
+                INSERT INTO attendances (user_id, role, course_id, date, status)
+                SELECT u, 'STUDENT', u % 50, DATE '2023-01-01' + d, CASE WHEN (u + d) % 5 = 0 THEN 'ABSENT' ELSE 'PRESENT' END
+                FROM generate_series(1, 2000) u, generate_series(0, 729, 3) d
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO course_assigns (user_id, course_id, role)
+                SELECT u, (u + c) % 50, 'STUDENT' FROM generate_series(1, 2000) u, generate_series(0, 4) c
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO timetables (date, start_time, end_time, teacher_id, course_id, classroom)
+                SELECT DATE '2023-01-01' + d, TIME '08:00' + (s * INTERVAL '15 minutes'), TIME '09:00' + (s * INTERVAL '15 minutes'),
+                       1000 + (d + s) % 200, (d + s) % 50, 'R' || s
+                FROM generate_series(0, 729) d, generate_series(0, 29) s
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO students (student_id, user_id, first_name, last_name, contact_number)
+                SELECT s, 100000 + s, 'F' || s, CASE WHEN s % 100 = 0 THEN NULL ELSE 'L' || (s % 500) END, '07' || s
+                FROM generate_series(1, 20000) s
+                """);
+        jdbcTemplate.execute("ANALYZE attendances");
+        jdbcTemplate.execute("ANALYZE course_assigns");
+        jdbcTemplate.execute("ANALYZE timetables");
+        jdbcTemplate.execute("ANALYZE students");
+        seeded = true;
+    }
+
+    /**
+     * Runs the repository call and checks the plan of every statement it sent.
+     * Bind markers are numbered so Postgres can plan the statement without values.
+     */
+    private void assertIndexed(String table, Runnable repositoryCall) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        repositoryCall.run();
+        List<String> statements = List.copyOf(CapturingStatementInspector.STATEMENTS);
+        assertTrue(statements.stream().anyMatch(sql -> sql.contains(table)), () -> "No statement on " + table + ": " + statements);
+        for (String sql : statements) {
+            List<String> plan = jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numberBindMarkers(sql), String.class);
+            String text = String.join("\n", plan);
+            assertFalse(text.contains("Seq Scan on " + table), () -> "Sequential scan for: " + sql + "\n" + text);
+        }
+    }
+
+    private static String numberBindMarkers(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int marker = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++marker);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    /**
+     * Records the SQL Hibernate prepares, so the test explains exactly what the repositories run.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
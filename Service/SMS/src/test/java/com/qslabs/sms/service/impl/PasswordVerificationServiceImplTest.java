@@ -0,0 +1,118 @@
+package com.qslabs.sms.service.impl;
+
+import com.qslabs.sms.exception.LoginBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that login checks are refused quickly once the password pool is saturated.
+ * The pool has one thread and room for one waiting check; the encoder blocks until released.
+ */
+class PasswordVerificationServiceImplTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private final ThreadPoolTaskExecutor loginExecutor = new ThreadPoolTaskExecutor();
+    private final PasswordVerificationServiceImpl service = new PasswordVerificationServiceImpl();
+
+    @BeforeEach
+    void setUp() {
+        loginExecutor.setCorePoolSize(1);
+        loginExecutor.setMaxPoolSize(1);
+        loginExecutor.setQueueCapacity(1);
+        loginExecutor.initialize();
+        ReflectionTestUtils.setField(service, "passwordEncoder", new BlockingPasswordEncoder());
+        ReflectionTestUtils.setField(service, "loginExecutor", loginExecutor);
+        ReflectionTestUtils.setField(service, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(service, "waitTimeout", Duration.ofSeconds(5));
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    void rejectsChecksBeyondTheQueue() throws Exception {
+        Future<Boolean> running = callers.submit(() -> service.matches("secret", "hash"));
+        Future<Boolean> queued = callers.submit(() -> service.matches("secret", "hash"));
+        awaitSaturation();
+
+        long started = System.nanoTime();
+        assertThrows(LoginBusyException.class, () -> service.matches("secret", "hash"));
+        assertTrue(System.nanoTime() - started < TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(1.0, meterRegistry.counter("sms.login.rejected").count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectsChecksThatDoNotFinishInTime() {
+        ReflectionTestUtils.setField(service, "waitTimeout", Duration.ofMillis(100));
+
+        long started = System.nanoTime();
+        assertThrows(LoginBusyException.class, () -> service.matches("secret", "hash"));
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1.0, meterRegistry.counter("sms.login.rejected").count());
+    }
+
+    private void awaitActive() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loginExecutor.getActiveCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, loginExecutor.getActiveCount());
+    }
+
+    private void awaitSaturation() throws InterruptedException {
+        awaitActive();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (loginExecutor.getThreadPoolExecutor().getQueue().size() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, loginExecutor.getThreadPoolExecutor().getQueue().size());
+    }
+
+    /**
+     * Encoder whose checks hold their thread until the test releases them.
+     */
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "hash";
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.qslabs.sms.config;
 
+import com.qslabs.sms.auth.TokenAuthFilter;
 import com.qslabs.sms.service.impl.CustomUserDetailsService;
 import com.qslabs.sms.util.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -16,6 +18,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,6 +36,9 @@ public class SecurityConfig {
     @Autowired
     private UserDetailsService userDetailsService; // Injects the user detail service to load user-specific data
 
+    @Autowired
+    private TokenAuthFilter tokenAuthFilter; // Verifies signed session tokens without touching the database
+
     /**
      * Bean to provide password encoding mechanism using BCrypt hashing.
      */
@@ -57,8 +63,10 @@ public class SecurityConfig {
                         .requestMatchers(Constants.ADD_MAPPING).permitAll() // Publicly accessible endpoints
                         .anyRequest().authenticated() // All other requests require authentication
                 )
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // No server-side sessions
+                .addFilterBefore(tokenAuthFilter, UsernamePasswordAuthenticationFilter.class) // Token authentication ahead of HTTP Basic
                 .userDetailsService(customUserDetailsService) // Set custom user details service
-                .httpBasic(Customizer.withDefaults()); // Use HTTP Basic authentication
+                .httpBasic(Customizer.withDefaults()); // HTTP Basic remains as a fallback for clients without a token
 
         return http.build(); // Return the configured security filter chain
     }
@@ -0,0 +1,35 @@
+package com.qslabs.sms.auth;
+
+/**
+ * Constants of the signed session tokens shared by the microservices.
+ */
+public final class AuthConstants {
+
+    /**
+     * Header carrying the session token.
+     */
+    public static final String AUTH_HEADER = "Authorization";
+
+    /**
+     * Optional prefix of a session token in the Authorization header.
+     */
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Prefix of HTTP Basic credentials, which are left to the Basic authentication filter.
+     */
+    public static final String BASIC_PREFIX = "Basic ";
+
+    /**
+     * MAC algorithm used to sign session tokens.
+     */
+    public static final String TOKEN_ALGORITHM = "HmacSHA256";
+
+    /**
+     * Shortest accepted signing secret in bytes, the output size of HMAC-SHA256.
+     */
+    public static final int MIN_SECRET_BYTES = 32;
+
+    private AuthConstants() {
+    }
+}
@@ -0,0 +1,50 @@
+package com.qslabs.sms.auth;
+
+public class AuthDTO {
+    private Long userId;
+    private String username;
+    private String token;
+    private String role;
+
+    public AuthDTO() {
+    }
+
+    public AuthDTO(String token, String username, Long userId, String role) {
+        this.token = token;
+        this.username = username;
+        this.userId = userId;
+        this.role = role;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+}
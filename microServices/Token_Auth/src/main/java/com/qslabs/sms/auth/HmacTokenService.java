@@ -0,0 +1,100 @@
+package com.qslabs.sms.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Issues and verifies stateless, HMAC-signed session tokens.
+ * Every service shares the signing key, so a token issued at login can be checked
+ * locally without a database lookup or password hash on each request.
+ *
+ * Token format: base64url(userId:role:expiresAt:username) + "." + base64url(HMAC-SHA256)
+ */
+@Service
+public class HmacTokenService {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+
+    /**
+     * @param secret signing key shared by all services; startup fails if it is missing or shorter than 32 bytes
+     * @param ttl    lifetime of issued tokens
+     */
+    public HmacTokenService(@Value("${sms.auth.token-secret}") String secret,
+                            @Value("${sms.auth.token-ttl:60m}") Duration ttl) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secret.isBlank() || secretBytes.length < AuthConstants.MIN_SECRET_BYTES) {
+            throw new IllegalStateException("sms.auth.token-secret (SMS_TOKEN_SECRET) must be set to at least "
+                    + AuthConstants.MIN_SECRET_BYTES + " bytes");
+        }
+        this.key = new SecretKeySpec(secretBytes, AuthConstants.TOKEN_ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    /**
+     * Creates a signed token for an authenticated user.
+     *
+     * @param username the user's username
+     * @param userId   the user's ID
+     * @param role     the user's role
+     * @return signed token
+     */
+    public String issueToken(String username, Long userId, String role) {
+        long expiresAt = Instant.now().plus(ttl).getEpochSecond();
+        String payload = ENCODER.encodeToString((userId + ":" + role + ":" + expiresAt + ":" + username).getBytes(StandardCharsets.UTF_8));
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * Verifies a token's signature and expiry.
+     *
+     * @param token signed token, optionally prefixed with "Bearer "
+     * @return token data if the token is valid, otherwise null
+     */
+    public AuthDTO verify(String token) {
+        if (token.startsWith(AuthConstants.BEARER_PREFIX)) {
+            token = token.substring(AuthConstants.BEARER_PREFIX.length());
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        try {
+            String payload = token.substring(0, dot);
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+
+            String[] parts = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split(":", 4);
+            if (parts.length != 4 || Long.parseLong(parts[2]) < Instant.now().getEpochSecond()) {
+                return null;
+            }
+            return new AuthDTO(token, parts[3], Long.valueOf(parts[0]), parts[1]);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(AuthConstants.TOKEN_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign token", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.qslabs.sms.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Authenticates requests carrying a signed session token.
+ * The token is verified locally, so no database query or BCrypt check runs per request.
+ * Requests without a token fall through to HTTP Basic authentication.
+ */
+@Component
+public class TokenAuthFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private HmacTokenService tokenService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String token = request.getHeader(AuthConstants.AUTH_HEADER);
+
+        if (token != null && !token.startsWith(AuthConstants.BASIC_PREFIX)) {
+            AuthDTO tokenData = tokenService.verify(token);
+
+            if (tokenData != null && tokenData.getRole() != null) {
+                SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + tokenData.getRole());
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(tokenData.getUsername(), null, Collections.singletonList(authority));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -1,9 +1,11 @@
 package com.qslabs.sms.controller;
 
+import com.qslabs.sms.auth.AuthDTO;
 import com.qslabs.sms.dto.UserDTO;
 import com.qslabs.sms.service.UserService;
 import com.qslabs.sms.util.Constants;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
@@ -35,11 +37,12 @@ public class UserController {
      * Authenticates a user based on username and password.
      *
      * @param userDTO Contains username and password
-     * @return Success message or token
+     * @return AuthDTO with a signed session token, or 401 if the credentials are invalid
      */
     @PostMapping("/login")
-    public ResponseEntity<String> getUser(@RequestBody UserDTO userDTO) {
-        return ResponseEntity.ok(userService.isUser(userDTO.getUsername(), userDTO.getPassword()));
+    public ResponseEntity<AuthDTO> getUser(@RequestBody UserDTO userDTO) {
+        AuthDTO auth = userService.isUser(userDTO.getUsername(), userDTO.getPassword());
+        return auth != null ? ResponseEntity.ok(auth) : ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
 
     /**
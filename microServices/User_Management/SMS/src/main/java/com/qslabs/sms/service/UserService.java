@@ -1,5 +1,6 @@
 package com.qslabs.sms.service;
 
+import com.qslabs.sms.auth.AuthDTO;
 import com.qslabs.sms.dto.UserDTO;
 import com.qslabs.sms.model.User;
 
@@ -22,9 +23,9 @@ public interface UserService {
      *
      * @param username the username entered during login
      * @param password the raw password to validate
-     * @return role of the user if valid, otherwise "null" string
+     * @return AuthDTO with a signed session token if valid, otherwise null
      */
-    String isUser(String username, String password);
+    AuthDTO isUser(String username, String password);
 
     /**
      * Updates the username of a user by ID.
@@ -1,5 +1,7 @@
 package com.qslabs.sms.service.impl;
 
+import com.qslabs.sms.auth.AuthDTO;
+import com.qslabs.sms.auth.HmacTokenService;
 import com.qslabs.sms.dto.UserDTO;
 import com.qslabs.sms.model.User;
 import com.qslabs.sms.repository.UserRepository;
@@ -22,6 +24,9 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private HmacTokenService tokenService;
+
     /**
      * Creates a new user and saves it to the database with an encoded password.
      *
@@ -41,15 +46,16 @@ public class UserServiceImpl implements UserService {
      *
      * @param username the user's username
      * @param password the user's raw password
-     * @return user's role if valid; "null" (as string) if invalid
+     * @return AuthDTO with a signed session token if valid; null if invalid
      */
     @Override
-    public String isUser(String username, String password) {
+    public AuthDTO isUser(String username, String password) {
         User user = userRepository.findByUsername(username).orElseThrow(() -> new UsernameNotFoundException(username));
         if(passwordEncoder.matches(password, user.getPassword())){
-            return String.valueOf(user.getRole());
+            String token = tokenService.issueToken(user.getUsername(), user.getId(), user.getRole());
+            return new AuthDTO(token, user.getUsername(), user.getId(), user.getRole());
         }else {
-            return String.valueOf("null");
+            return null;
         }
     }
 